@@ -0,0 +1,94 @@
+package br.com.suit.DLQ.benchmarks;
+
+import br.com.suit.DLQ.application.commands.RecordExpense;
+import br.com.suit.DLQ.application.domain.FailureClassification;
+import br.com.suit.DLQ.application.domain.FinancialProcessingException;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowProperties;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.publisher.DlqEnvelopeFormat;
+import br.com.suit.DLQ.driven.messaging.publisher.TransportDeadLetterQueuePublisher;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Mede a montagem da mensagem de DLQ; o envio é substituído por um transporte que só consome a mensagem
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DlqEnvelopeBenchmark {
+
+    @Param({"HEADERS", "JSON"})
+    public DlqEnvelopeFormat envelopeFormat;
+
+    private TransportDeadLetterQueuePublisher publisher;
+    private byte[] payload;
+    private Exception exception;
+    // Mantém a última mensagem montada visível para evitar eliminação de código morto
+    private volatile Message lastMessage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        MessageTransport transport = new MessageTransport() {
+            @Override
+            public CompletableFuture<Void> publish(String flow, Object payload, MessageLane lane) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public void sendToRetry(String flow, int tier, Message message) {
+            }
+
+            @Override
+            public void sendToDlq(String flow, Message message) {
+                lastMessage = message;
+            }
+
+            @Override
+            public long queueDepth(String flow) {
+                return 0;
+            }
+        };
+        FlowSettings settings = new FlowSettings();
+        MessageFlowProperties properties = new MessageFlowProperties();
+        properties.getQueues().put("expense", settings);
+        MessageFlow<RecordExpense> flow = new MessageFlow<>("expense", "EXPENSE", RecordExpense.class, "category",
+                RecordExpense::getId, RecordExpense::getCategory,
+                command -> { }, commands -> List.of());
+        PipelineMetrics pipelineMetrics = new PipelineMetrics() {
+            @Override
+            public void record(Stage stage, String messageType, boolean success, long durationNanos) {
+            }
+
+            @Override
+            public void recordLaneLatency(String messageType, String lane, long durationNanos) {
+            }
+        };
+        publisher = new TransportDeadLetterQueuePublisher(transport, objectMapper, pipelineMetrics,
+                new MessageFlowRegistry(List.of(flow), properties), envelopeFormat);
+
+        payload = ("{\"id\":\"expense-1\",\"description\":\"Compra com erro\",\"amount\":150.75,"
+                + "\"category\":\"Material\",\"dateTime\":\"2024-01-15T10:30:00\"}").getBytes(StandardCharsets.UTF_8);
+        exception = new FinancialProcessingException("Expense processing failed due to error keyword: expense-1");
+    }
+
+    @Benchmark
+    public Message publishToExpenseDlq() {
+        publisher.publishToDlq("expense", payload, exception, 3, FailureClassification.RETRYABLE);
+        return lastMessage;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.suit.DLQ.benchmarks;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.rules.CompiledRuleSet;
+import br.com.suit.DLQ.application.rules.RuleSetDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainValidationBenchmark {
+
+    private final BigDecimal amount = new BigDecimal("150.75");
+    private final LocalDateTime dateTime = LocalDateTime.now();
+    private Expense expense;
+    private Income income;
+    private CompiledRuleSet expenseRules;
+
+    @Setup
+    public void setUp() {
+        expense = new Expense("expense-1", "Compra de materiais de escritório", amount, "Material", dateTime);
+        income = new Income("income-1", "Consultoria mensal", amount, "Cliente A", dateTime);
+        expenseRules = CompiledRuleSet.compile(new RuleSetDefinition(List.of("erro", "error"), List.of("Cassino"),
+                new BigDecimal("0.01"), new BigDecimal("100000")), "category");
+    }
+
+    @Benchmark
+    public Expense createExpense() {
+        return new Expense("expense-1", "Compra de materiais de escritório", amount, "Material", dateTime)
+                .markAsProcessed();
+    }
+
+    @Benchmark
+    public Income createIncome() {
+        return new Income("income-1", "Consultoria mensal", amount, "Cliente A", dateTime).markAsProcessed();
+    }
+
+    @Benchmark
+    public boolean expenseContainsErrorKeyword() {
+        return containsErrorKeyword(expense.getDescription(), expense.getCategory());
+    }
+
+    @Benchmark
+    public boolean incomeContainsErrorKeyword() {
+        return containsErrorKeyword(income.getDescription(), income.getSource());
+    }
+
+    @Benchmark
+    public String expenseRuleEngine() {
+        return expenseRules.evaluate(expense.getDescription(), expense.getCategory(), expense.getAmount());
+    }
+
+    // Linha de base: a verificação que existia nas entidades antes do motor de regras
+    private static boolean containsErrorKeyword(String description, String group) {
+        return description.toLowerCase().contains("erro") ||
+               description.toLowerCase().contains("error") ||
+               group.toLowerCase().contains("erro") ||
+               group.toLowerCase().contains("error");
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.suit.DLQ.benchmarks;
+
+import br.com.suit.DLQ.application.commands.RecordExpense;
+import br.com.suit.DLQ.application.commands.RecordIncome;
+import br.com.suit.DLQ.driven.messaging.converter.FinancialMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageConversionBenchmark {
+
+    private ObjectMapper objectMapper;
+    private FinancialMessageConverter messageConverter;
+    private byte[] expensePayload;
+    private byte[] incomePayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        messageConverter = new FinancialMessageConverter(objectMapper);
+        expensePayload = objectMapper.writeValueAsBytes(new RecordExpense(UUID.randomUUID().toString(),
+                "Compra de materiais de escritório", new BigDecimal("150.75"), "Material", LocalDateTime.now()));
+        incomePayload = objectMapper.writeValueAsBytes(new RecordIncome(UUID.randomUUID().toString(),
+                "Consultoria mensal", new BigDecimal("5000.00"), "Cliente A", LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public RecordExpense readExpenseWithObjectMapper() throws Exception {
+        return objectMapper.readValue(expensePayload, RecordExpense.class);
+    }
+
+    @Benchmark
+    public RecordExpense readExpenseWithConverter() {
+        return messageConverter.read(expensePayload, RecordExpense.class);
+    }
+
+    @Benchmark
+    public RecordIncome readIncomeWithObjectMapper() throws Exception {
+        return objectMapper.readValue(incomePayload, RecordIncome.class);
+    }
+
+    @Benchmark
+    public RecordIncome readIncomeWithConverter() {
+        return messageConverter.read(incomePayload, RecordIncome.class);
+    }
+}
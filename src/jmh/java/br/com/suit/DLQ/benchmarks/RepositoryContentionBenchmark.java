@@ -0,0 +1,43 @@
+package br.com.suit.DLQ.benchmarks;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseStatus;
+import br.com.suit.DLQ.driven.aggregation.ExpenseAggregates;
+import br.com.suit.DLQ.driven.repository.InMemoryExpenseRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// save concorrente com índices e agregados ativos, como na aplicação
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RepositoryContentionBenchmark {
+
+    private static final String[] CATEGORIES = {"Material", "Transporte", "Alimentação", "Serviços"};
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final BigDecimal amount = new BigDecimal("150.75");
+    private final LocalDateTime baseDateTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private InMemoryExpenseRepository repository;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = new InMemoryExpenseRepository(List.of(new ExpenseAggregates()));
+    }
+
+    @Benchmark
+    public void saveExpense() {
+        long id = sequence.incrementAndGet();
+        repository.save(new Expense("expense-" + id, "Compra de materiais", amount,
+                CATEGORIES[(int) (id & 3)], baseDateTime.plusSeconds(id), ExpenseStatus.PROCESSED));
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.suit.DLQ.benchmarks;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.driven.repository.compact.CompactRecordStore;
+import br.com.suit.DLQ.driven.repository.journal.ExpenseJournalCodec;
+import br.com.suit.DLQ.driven.repository.journal.MappedJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final CompactRecordStore.RowMapper<Object> NO_MAPPER =
+            (id, description, amount, group, dateTime, status) -> null;
+
+    private final ExpenseJournalCodec codec = new ExpenseJournalCodec();
+    private Expense expense;
+    private byte[] encoded;
+    private CompactRecordStore compactStore;
+    private MappedJournal journal;
+    private Path journalDirectory;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        expense = new Expense("expense-1", "Compra de materiais de escritório", new BigDecimal("150.75"),
+                "Material", LocalDateTime.now()).markAsProcessed();
+        encoded = codec.encode(expense);
+        compactStore = new CompactRecordStore();
+        journalDirectory = Files.createTempDirectory("journal-benchmark");
+        journal = new MappedJournal(journalDirectory, 64 * 1024 * 1024, TimeUnit.MILLISECONDS.toNanos(2));
+        journal.open();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeJournalRecord() {
+        return codec.encode(expense);
+    }
+
+    // Sem aguardar o fsync: mede apenas a escrita no segmento mapeado
+    @Benchmark
+    public long appendToJournal() {
+        return journal.append(encoded);
+    }
+
+    @Benchmark
+    public void putIntoCompactStore() {
+        compactStore.put("expense-" + (sequence++ & 0xFFFF), expense.getDescription(), expense.getAmount(),
+                expense.getCategory(), expense.getDateTime(), expense.getStatus().ordinal(), NO_MAPPER,
+                (previous, stored) -> { });
+    }
+}
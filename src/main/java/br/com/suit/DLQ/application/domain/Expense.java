@@ -37,13 +37,6 @@ public class Expense {
         }
     }
 
-    public boolean containsErrorKeyword() {
-        return description.toLowerCase().contains("erro") || 
-               description.toLowerCase().contains("error") ||
-               category.toLowerCase().contains("erro") ||
-               category.toLowerCase().contains("error");
-    }
-
     public Expense markAsProcessed() {
         return new Expense(id, description, amount, category, dateTime, ExpenseStatus.PROCESSED);
     }
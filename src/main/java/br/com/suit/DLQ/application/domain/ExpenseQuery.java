@@ -0,0 +1,64 @@
+package br.com.suit.DLQ.application.domain;
+
+import java.time.LocalDateTime;
+
+public class ExpenseQuery {
+    private final String category;
+    private final ExpenseStatus status;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String cursor;
+    private final int limit;
+
+    public ExpenseQuery(String category, ExpenseStatus status, LocalDateTime from, LocalDateTime to,
+                        String cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("From must not be after to");
+        }
+        this.category = category;
+        this.status = status;
+        this.from = from;
+        this.to = to;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public ExpenseStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "ExpenseQuery{" +
+                "category='" + category + '\'' +
+                ", status=" + status +
+                ", from=" + from +
+                ", to=" + to +
+                ", cursor='" + cursor + '\'' +
+                ", limit=" + limit +
+                '}';
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.suit.DLQ.application.domain;
+
+public enum FailureClassification {
+    RETRYABLE,
+    NON_RETRYABLE,
+    DISCARD
+}
\ No newline at end of file
@@ -37,13 +37,6 @@ public class Income {
         }
     }
 
-    public boolean containsErrorKeyword() {
-        return description.toLowerCase().contains("erro") || 
-               description.toLowerCase().contains("error") ||
-               source.toLowerCase().contains("erro") ||
-               source.toLowerCase().contains("error");
-    }
-
     public Income markAsProcessed() {
         return new Income(id, description, amount, source, dateTime, IncomeStatus.PROCESSED);
     }
@@ -0,0 +1,64 @@
+package br.com.suit.DLQ.application.domain;
+
+import java.time.LocalDateTime;
+
+public class IncomeQuery {
+    private final String source;
+    private final IncomeStatus status;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String cursor;
+    private final int limit;
+
+    public IncomeQuery(String source, IncomeStatus status, LocalDateTime from, LocalDateTime to,
+                        String cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("From must not be after to");
+        }
+        this.source = source;
+        this.status = status;
+        this.from = from;
+        this.to = to;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    public String getCategory() {
+        return source;
+    }
+
+    public IncomeStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "IncomeQuery{" +
+                "source='" + source + '\'' +
+                ", status=" + status +
+                ", from=" + from +
+                ", to=" + to +
+                ", cursor='" + cursor + '\'' +
+                ", limit=" + limit +
+                '}';
+    }
+}
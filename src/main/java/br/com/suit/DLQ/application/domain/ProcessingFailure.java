@@ -0,0 +1,29 @@
+package br.com.suit.DLQ.application.domain;
+
+import java.util.Objects;
+
+public class ProcessingFailure<T> {
+    private final T command;
+    private final Exception exception;
+
+    public ProcessingFailure(T command, Exception exception) {
+        this.command = Objects.requireNonNull(command, "Command cannot be null");
+        this.exception = Objects.requireNonNull(exception, "Exception cannot be null");
+    }
+
+    public T getCommand() {
+        return command;
+    }
+
+    public Exception getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessingFailure{" +
+                "command=" + command +
+                ", exception=" + exception.getClass().getSimpleName() +
+                '}';
+    }
+}
\ No newline at end of file
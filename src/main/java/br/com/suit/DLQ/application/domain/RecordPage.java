@@ -0,0 +1,30 @@
+package br.com.suit.DLQ.application.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+public class RecordPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    public RecordPage(List<T> items, String nextCursor) {
+        this.items = List.copyOf(Objects.requireNonNull(items, "Items cannot be null"));
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordPage{" +
+                "items=" + items.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
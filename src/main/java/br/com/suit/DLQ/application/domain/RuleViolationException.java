@@ -0,0 +1,9 @@
+package br.com.suit.DLQ.application.domain;
+
+// Violação de regra de validação: determinística, a mesma mensagem falharia em toda nova tentativa
+public class RuleViolationException extends FinancialProcessingException {
+
+    public RuleViolationException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
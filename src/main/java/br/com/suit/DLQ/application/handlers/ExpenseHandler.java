@@ -2,62 +2,172 @@ package br.com.suit.DLQ.application.handlers;
 
 import br.com.suit.DLQ.application.commands.RecordExpense;
 import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
 import br.com.suit.DLQ.application.domain.FinancialProcessingException;
+import br.com.suit.DLQ.application.domain.ProcessingFailure;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.domain.RuleViolationException;
 import br.com.suit.DLQ.application.ports.inbound.ExpenseProcessingUseCase;
+import br.com.suit.DLQ.application.ports.inbound.ExpenseQueryUseCase;
+import br.com.suit.DLQ.application.ports.outbound.AuditLog;
 import br.com.suit.DLQ.application.ports.outbound.ExpenseRepository;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.application.ports.outbound.ProcessedMessageRegistry;
+import br.com.suit.DLQ.application.rules.ValidationRuleEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
-public class ExpenseHandler implements ExpenseProcessingUseCase {
+public class ExpenseHandler implements ExpenseProcessingUseCase, ExpenseQueryUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(ExpenseHandler.class);
+    private static final String MESSAGE_TYPE = "EXPENSE";
     
     private final ExpenseRepository expenseRepository;
+    private final ProcessedMessageRegistry processedMessageRegistry;
+    private final PipelineMetrics pipelineMetrics;
+    private final ValidationRuleEngine validationRuleEngine;
+    private final AuditLog auditLog;
 
-    public ExpenseHandler(ExpenseRepository expenseRepository) {
+    public ExpenseHandler(ExpenseRepository expenseRepository, ProcessedMessageRegistry processedMessageRegistry,
+                          PipelineMetrics pipelineMetrics, ValidationRuleEngine validationRuleEngine,
+                          AuditLog auditLog) {
         this.expenseRepository = expenseRepository;
+        this.processedMessageRegistry = processedMessageRegistry;
+        this.pipelineMetrics = pipelineMetrics;
+        this.validationRuleEngine = validationRuleEngine;
+        this.auditLog = auditLog;
     }
 
     @Override
     public void processExpense(RecordExpense recordExpense) {
-        logger.info("Processing expense: {}", recordExpense);
-        
-        try {
-            // Converter comando para entidade de domínio
-            Expense expense = new Expense(
-                recordExpense.getId(),
-                recordExpense.getDescription(),
-                recordExpense.getAmount(),
-                recordExpense.getCategory(),
-                recordExpense.getDateTime()
-            );
+        // Rastro por mensagem fica no audit log amostrado; o log textual só em DEBUG
+        logger.debug("Processing expense: {}", recordExpense.getId());
 
-            // Aplicar regras de negócio
-            validateExpenseProcessing(expense);
+        // Reentregas de mensagens já salvas são descartadas com uma única consulta
+        if (processedMessageRegistry.isProcessed(recordExpense.getId(), this::isStored)) {
+            logger.debug("Skipping already processed expense: {}", recordExpense.getId());
+            return;
+        }
 
+        long startedAt = System.nanoTime();
+        PipelineMetrics.Stage stage = PipelineMetrics.Stage.VALIDATE;
+        try {
             // Marcar como processado e salvar
-            Expense processedExpense = expense.markAsProcessed();
-            expenseRepository.save(processedExpense);
-            
-            logger.info("Expense processed successfully: {}", expense.getId());
-            
+            Expense processedExpense = toProcessedExpense(recordExpense);
+            stage = PipelineMetrics.Stage.REPOSITORY_SAVE;
+            pipelineMetrics.time(PipelineMetrics.Stage.REPOSITORY_SAVE, MESSAGE_TYPE,
+                    () -> expenseRepository.save(processedExpense));
+            processedMessageRegistry.markProcessed(processedExpense.getId());
+            auditLog.record(processedExpense.getId(), MESSAGE_TYPE, stage, true, System.nanoTime() - startedAt);
+
+            logger.debug("Expense processed successfully: {}", processedExpense.getId());
+
         } catch (Exception e) {
+            auditLog.record(recordExpense.getId(), MESSAGE_TYPE, stage, false, System.nanoTime() - startedAt);
             logger.error("Failed to process expense: {}", recordExpense.getId(), e);
             throw new FinancialProcessingException("Failed to process expense: " + recordExpense.getId(), e);
         }
     }
 
+    @Override
+    public List<ProcessingFailure<RecordExpense>> processExpenses(List<RecordExpense> recordExpenses) {
+        logger.debug("Processing expense batch with {} items", recordExpenses.size());
+
+        List<ProcessingFailure<RecordExpense>> failures = new ArrayList<>();
+        List<RecordExpense> accepted = new ArrayList<>(recordExpenses.size());
+        List<Expense> processedExpenses = new ArrayList<>(recordExpenses.size());
+
+        // Falhas de validação afetam apenas o item, não o lote inteiro
+        for (RecordExpense recordExpense : recordExpenses) {
+            if (processedMessageRegistry.isProcessed(recordExpense.getId(), this::isStored)) {
+                logger.debug("Skipping already processed expense: {}", recordExpense.getId());
+                continue;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                processedExpenses.add(toProcessedExpense(recordExpense));
+                accepted.add(recordExpense);
+            } catch (Exception e) {
+                auditLog.record(recordExpense.getId(), MESSAGE_TYPE, PipelineMetrics.Stage.VALIDATE, false,
+                        System.nanoTime() - startedAt);
+                logger.error("Failed to process expense: {}", recordExpense.getId(), e);
+                failures.add(new ProcessingFailure<>(recordExpense,
+                        new FinancialProcessingException("Failed to process expense: " + recordExpense.getId(), e)));
+            }
+        }
+
+        if (!processedExpenses.isEmpty()) {
+            long startedAt = System.nanoTime();
+            try {
+                pipelineMetrics.time(PipelineMetrics.Stage.REPOSITORY_SAVE, MESSAGE_TYPE,
+                        () -> expenseRepository.saveAll(processedExpenses));
+                long saveNanos = System.nanoTime() - startedAt;
+                for (Expense processedExpense : processedExpenses) {
+                    processedMessageRegistry.markProcessed(processedExpense.getId());
+                    auditLog.record(processedExpense.getId(), MESSAGE_TYPE, PipelineMetrics.Stage.REPOSITORY_SAVE, true,
+                            saveNanos);
+                }
+            } catch (Exception e) {
+                logger.error("Failed to save expense batch with {} items", processedExpenses.size(), e);
+                for (RecordExpense recordExpense : accepted) {
+                    auditLog.record(recordExpense.getId(), MESSAGE_TYPE, PipelineMetrics.Stage.REPOSITORY_SAVE, false,
+                            System.nanoTime() - startedAt);
+                    failures.add(new ProcessingFailure<>(recordExpense,
+                            new FinancialProcessingException("Failed to process expense: " + recordExpense.getId(), e)));
+                }
+            }
+        }
+
+        logger.debug("Expense batch processed: {} succeeded, {} failed",
+                recordExpenses.size() - failures.size(), failures.size());
+        return failures;
+    }
+
+    @Override
+    public Expense findExpense(String id) {
+        return expenseRepository.findById(id);
+    }
+
+    @Override
+    public RecordPage<Expense> findExpenses(ExpenseQuery query) {
+        logger.debug("Querying expenses: {}", query);
+        return expenseRepository.find(query);
+    }
+
+    private Expense toProcessedExpense(RecordExpense recordExpense) {
+        // Converter comando para entidade de domínio
+        Expense expense = new Expense(
+            recordExpense.getId(),
+            recordExpense.getDescription(),
+            recordExpense.getAmount(),
+            recordExpense.getCategory(),
+            recordExpense.getDateTime()
+        );
+
+        // Aplicar regras de negócio
+        pipelineMetrics.time(PipelineMetrics.Stage.VALIDATE, MESSAGE_TYPE, () -> validateExpenseProcessing(expense));
+
+        return expense.markAsProcessed();
+    }
+
     private void validateExpenseProcessing(Expense expense) {
-        // Simular falha se contém palavra "erro"
-        if (expense.containsErrorKeyword()) {
-            throw new FinancialProcessingException(
-                "Expense processing failed due to error keyword in description or category: " + expense.getId()
+        // Regras configuráveis (palavras de erro, limites de valor, categorias bloqueadas)
+        String violation = validationRuleEngine.evaluate(expense);
+        if (violation != null) {
+            throw new RuleViolationException(
+                "Expense processing failed due to " + violation + ": " + expense.getId()
             );
         }
 
-        // Outras validações de negócio podem ser adicionadas aqui
         logger.debug("Expense validation passed for: {}", expense.getId());
     }
+
+    private boolean isStored(String id) {
+        return expenseRepository.findById(id) != null;
+    }
 }
\ No newline at end of file
@@ -2,62 +2,172 @@ package br.com.suit.DLQ.application.handlers;
 
 import br.com.suit.DLQ.application.commands.RecordIncome;
 import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
 import br.com.suit.DLQ.application.domain.FinancialProcessingException;
+import br.com.suit.DLQ.application.domain.ProcessingFailure;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.domain.RuleViolationException;
 import br.com.suit.DLQ.application.ports.inbound.IncomeProcessingUseCase;
+import br.com.suit.DLQ.application.ports.inbound.IncomeQueryUseCase;
+import br.com.suit.DLQ.application.ports.outbound.AuditLog;
 import br.com.suit.DLQ.application.ports.outbound.IncomeRepository;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.application.ports.outbound.ProcessedMessageRegistry;
+import br.com.suit.DLQ.application.rules.ValidationRuleEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
-public class IncomeHandler implements IncomeProcessingUseCase {
+public class IncomeHandler implements IncomeProcessingUseCase, IncomeQueryUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(IncomeHandler.class);
+    private static final String MESSAGE_TYPE = "INCOME";
     
     private final IncomeRepository incomeRepository;
+    private final ProcessedMessageRegistry processedMessageRegistry;
+    private final PipelineMetrics pipelineMetrics;
+    private final ValidationRuleEngine validationRuleEngine;
+    private final AuditLog auditLog;
 
-    public IncomeHandler(IncomeRepository incomeRepository) {
+    public IncomeHandler(IncomeRepository incomeRepository, ProcessedMessageRegistry processedMessageRegistry,
+                         PipelineMetrics pipelineMetrics, ValidationRuleEngine validationRuleEngine,
+                         AuditLog auditLog) {
         this.incomeRepository = incomeRepository;
+        this.processedMessageRegistry = processedMessageRegistry;
+        this.pipelineMetrics = pipelineMetrics;
+        this.validationRuleEngine = validationRuleEngine;
+        this.auditLog = auditLog;
     }
 
     @Override
     public void processIncome(RecordIncome recordIncome) {
-        logger.info("Processing income: {}", recordIncome);
-        
-        try {
-            // Converter comando para entidade de domínio
-            Income income = new Income(
-                recordIncome.getId(),
-                recordIncome.getDescription(),
-                recordIncome.getAmount(),
-                recordIncome.getSource(),
-                recordIncome.getDateTime()
-            );
+        // Rastro por mensagem fica no audit log amostrado; o log textual só em DEBUG
+        logger.debug("Processing income: {}", recordIncome.getId());
 
-            // Aplicar regras de negócio
-            validateIncomeProcessing(income);
+        // Reentregas de mensagens já salvas são descartadas com uma única consulta
+        if (processedMessageRegistry.isProcessed(recordIncome.getId(), this::isStored)) {
+            logger.debug("Skipping already processed income: {}", recordIncome.getId());
+            return;
+        }
 
+        long startedAt = System.nanoTime();
+        PipelineMetrics.Stage stage = PipelineMetrics.Stage.VALIDATE;
+        try {
             // Marcar como processado e salvar
-            Income processedIncome = income.markAsProcessed();
-            incomeRepository.save(processedIncome);
-            
-            logger.info("Income processed successfully: {}", income.getId());
-            
+            Income processedIncome = toProcessedIncome(recordIncome);
+            stage = PipelineMetrics.Stage.REPOSITORY_SAVE;
+            pipelineMetrics.time(PipelineMetrics.Stage.REPOSITORY_SAVE, MESSAGE_TYPE,
+                    () -> incomeRepository.save(processedIncome));
+            processedMessageRegistry.markProcessed(processedIncome.getId());
+            auditLog.record(processedIncome.getId(), MESSAGE_TYPE, stage, true, System.nanoTime() - startedAt);
+
+            logger.debug("Income processed successfully: {}", processedIncome.getId());
+
         } catch (Exception e) {
+            auditLog.record(recordIncome.getId(), MESSAGE_TYPE, stage, false, System.nanoTime() - startedAt);
             logger.error("Failed to process income: {}", recordIncome.getId(), e);
             throw new FinancialProcessingException("Failed to process income: " + recordIncome.getId(), e);
         }
     }
 
+    @Override
+    public List<ProcessingFailure<RecordIncome>> processIncomes(List<RecordIncome> recordIncomes) {
+        logger.debug("Processing income batch with {} items", recordIncomes.size());
+
+        List<ProcessingFailure<RecordIncome>> failures = new ArrayList<>();
+        List<RecordIncome> accepted = new ArrayList<>(recordIncomes.size());
+        List<Income> processedIncomes = new ArrayList<>(recordIncomes.size());
+
+        // Falhas de validação afetam apenas o item, não o lote inteiro
+        for (RecordIncome recordIncome : recordIncomes) {
+            if (processedMessageRegistry.isProcessed(recordIncome.getId(), this::isStored)) {
+                logger.debug("Skipping already processed income: {}", recordIncome.getId());
+                continue;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                processedIncomes.add(toProcessedIncome(recordIncome));
+                accepted.add(recordIncome);
+            } catch (Exception e) {
+                auditLog.record(recordIncome.getId(), MESSAGE_TYPE, PipelineMetrics.Stage.VALIDATE, false,
+                        System.nanoTime() - startedAt);
+                logger.error("Failed to process income: {}", recordIncome.getId(), e);
+                failures.add(new ProcessingFailure<>(recordIncome,
+                        new FinancialProcessingException("Failed to process income: " + recordIncome.getId(), e)));
+            }
+        }
+
+        if (!processedIncomes.isEmpty()) {
+            long startedAt = System.nanoTime();
+            try {
+                pipelineMetrics.time(PipelineMetrics.Stage.REPOSITORY_SAVE, MESSAGE_TYPE,
+                        () -> incomeRepository.saveAll(processedIncomes));
+                long saveNanos = System.nanoTime() - startedAt;
+                for (Income processedIncome : processedIncomes) {
+                    processedMessageRegistry.markProcessed(processedIncome.getId());
+                    auditLog.record(processedIncome.getId(), MESSAGE_TYPE, PipelineMetrics.Stage.REPOSITORY_SAVE, true,
+                            saveNanos);
+                }
+            } catch (Exception e) {
+                logger.error("Failed to save income batch with {} items", processedIncomes.size(), e);
+                for (RecordIncome recordIncome : accepted) {
+                    auditLog.record(recordIncome.getId(), MESSAGE_TYPE, PipelineMetrics.Stage.REPOSITORY_SAVE, false,
+                            System.nanoTime() - startedAt);
+                    failures.add(new ProcessingFailure<>(recordIncome,
+                            new FinancialProcessingException("Failed to process income: " + recordIncome.getId(), e)));
+                }
+            }
+        }
+
+        logger.debug("Income batch processed: {} succeeded, {} failed",
+                recordIncomes.size() - failures.size(), failures.size());
+        return failures;
+    }
+
+    @Override
+    public Income findIncome(String id) {
+        return incomeRepository.findById(id);
+    }
+
+    @Override
+    public RecordPage<Income> findIncomes(IncomeQuery query) {
+        logger.debug("Querying incomes: {}", query);
+        return incomeRepository.find(query);
+    }
+
+    private Income toProcessedIncome(RecordIncome recordIncome) {
+        // Converter comando para entidade de domínio
+        Income income = new Income(
+            recordIncome.getId(),
+            recordIncome.getDescription(),
+            recordIncome.getAmount(),
+            recordIncome.getSource(),
+            recordIncome.getDateTime()
+        );
+
+        // Aplicar regras de negócio
+        pipelineMetrics.time(PipelineMetrics.Stage.VALIDATE, MESSAGE_TYPE, () -> validateIncomeProcessing(income));
+
+        return income.markAsProcessed();
+    }
+
     private void validateIncomeProcessing(Income income) {
-        // Simular falha se contém palavra "erro"
-        if (income.containsErrorKeyword()) {
-            throw new FinancialProcessingException(
-                "Income processing failed due to error keyword in description or source: " + income.getId()
+        // Regras configuráveis (palavras de erro, limites de valor, origens bloqueadas)
+        String violation = validationRuleEngine.evaluate(income);
+        if (violation != null) {
+            throw new RuleViolationException(
+                "Income processing failed due to " + violation + ": " + income.getId()
             );
         }
 
-        // Outras validações de negócio podem ser adicionadas aqui
         logger.debug("Income validation passed for: {}", income.getId());
     }
+
+    private boolean isStored(String id) {
+        return incomeRepository.findById(id) != null;
+    }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package br.com.suit.DLQ.application.ports.inbound;
 
 import br.com.suit.DLQ.application.commands.RecordExpense;
+import br.com.suit.DLQ.application.domain.ProcessingFailure;
+
+import java.util.List;
 
 public interface ExpenseProcessingUseCase {
     void processExpense(RecordExpense recordExpense);
+
+    List<ProcessingFailure<RecordExpense>> processExpenses(List<RecordExpense> recordExpenses);
 }
\ No newline at end of file
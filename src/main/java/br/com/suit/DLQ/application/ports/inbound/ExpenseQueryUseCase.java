@@ -0,0 +1,11 @@
+package br.com.suit.DLQ.application.ports.inbound;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
+
+public interface ExpenseQueryUseCase {
+    Expense findExpense(String id);
+
+    RecordPage<Expense> findExpenses(ExpenseQuery query);
+}
@@ -1,7 +1,12 @@
 package br.com.suit.DLQ.application.ports.inbound;
 
 import br.com.suit.DLQ.application.commands.RecordIncome;
+import br.com.suit.DLQ.application.domain.ProcessingFailure;
+
+import java.util.List;
 
 public interface IncomeProcessingUseCase {
     void processIncome(RecordIncome recordIncome);
+
+    List<ProcessingFailure<RecordIncome>> processIncomes(List<RecordIncome> recordIncomes);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package br.com.suit.DLQ.application.ports.inbound;
+
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
+
+public interface IncomeQueryUseCase {
+    Income findIncome(String id);
+
+    RecordPage<Income> findIncomes(IncomeQuery query);
+}
@@ -0,0 +1,6 @@
+package br.com.suit.DLQ.application.ports.outbound;
+
+public interface AuditLog {
+    // Registro por mensagem e etapa; a implementação decide amostragem e persistência fora da thread chamadora
+    void record(String messageId, String messageType, PipelineMetrics.Stage stage, boolean success, long durationNanos);
+}
\ No newline at end of file
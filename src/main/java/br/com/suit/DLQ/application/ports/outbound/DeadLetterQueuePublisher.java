@@ -1,6 +1,8 @@
 package br.com.suit.DLQ.application.ports.outbound;
 
+import br.com.suit.DLQ.application.domain.FailureClassification;
+
 public interface DeadLetterQueuePublisher {
-    void publishToExpenseDlq(String message, Exception exception);
-    void publishToIncomeDlq(String message, Exception exception);
+    void publishToDlq(String flow, byte[] message, Exception exception, int retryCount,
+                      FailureClassification classification);
 }
\ No newline at end of file
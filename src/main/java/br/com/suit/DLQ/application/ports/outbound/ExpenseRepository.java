@@ -1,7 +1,17 @@
 package br.com.suit.DLQ.application.ports.outbound;
 
 import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
+
+import java.util.List;
 
 public interface ExpenseRepository {
     void save(Expense expense);
-}
\ No newline at end of file
+
+    void saveAll(List<Expense> expenses);
+
+    Expense findById(String id);
+
+    RecordPage<Expense> find(ExpenseQuery query);
+}
@@ -1,7 +1,17 @@
 package br.com.suit.DLQ.application.ports.outbound;
 
 import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
+
+import java.util.List;
 
 public interface IncomeRepository {
     void save(Income income);
-}
\ No newline at end of file
+
+    void saveAll(List<Income> incomes);
+
+    Income findById(String id);
+
+    RecordPage<Income> find(IncomeQuery query);
+}
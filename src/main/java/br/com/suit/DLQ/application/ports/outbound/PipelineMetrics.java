@@ -0,0 +1,48 @@
+package br.com.suit.DLQ.application.ports.outbound;
+
+import java.util.function.Supplier;
+
+public interface PipelineMetrics {
+
+    enum Stage {
+        HTTP_PUBLISH("http_publish"),
+        DESERIALIZE("deserialize"),
+        VALIDATE("validate"),
+        REPOSITORY_SAVE("repository_save"),
+        DLQ_PUBLISH("dlq_publish");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String getTagValue() {
+            return tagValue;
+        }
+    }
+
+    void record(Stage stage, String messageType, boolean success, long durationNanos);
+
+    // Da publicação ao fim do processamento, por faixa (fila padrão ou prioritária)
+    void recordLaneLatency(String messageType, String lane, long durationNanos);
+
+    default <T> T time(Stage stage, String messageType, Supplier<T> operation) {
+        long startedAt = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = operation.get();
+            success = true;
+            return result;
+        } finally {
+            record(stage, messageType, success, System.nanoTime() - startedAt);
+        }
+    }
+
+    default void time(Stage stage, String messageType, Runnable operation) {
+        time(stage, messageType, () -> {
+            operation.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.suit.DLQ.application.ports.outbound;
+
+import java.util.function.Predicate;
+
+public interface ProcessedMessageRegistry {
+    // isStored confirma no repositório os acertos de registros probabilísticos, que admitem falsos positivos
+    boolean isProcessed(String id, Predicate<String> isStored);
+
+    void markProcessed(String id);
+}
\ No newline at end of file
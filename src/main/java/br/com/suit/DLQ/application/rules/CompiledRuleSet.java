@@ -0,0 +1,76 @@
+package br.com.suit.DLQ.application.rules;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Regras pré-compiladas: a avaliação não aloca e retorna o motivo da violação (pré-montado) ou null
+public final class CompiledRuleSet {
+
+    private final RuleSetDefinition definition;
+    private final KeywordMatcher keywordMatcher;
+    private final Set<String> blockedGroups;
+    private final BigDecimal minAmount;
+    private final BigDecimal maxAmount;
+
+    private final String keywordViolation;
+    private final String blockedGroupViolation;
+    private final String minAmountViolation;
+    private final String maxAmountViolation;
+
+    private CompiledRuleSet(RuleSetDefinition definition, KeywordMatcher keywordMatcher, Set<String> blockedGroups,
+                            String groupName) {
+        this.definition = definition;
+        this.keywordMatcher = keywordMatcher;
+        this.blockedGroups = blockedGroups;
+        this.minAmount = definition.getMinAmount();
+        this.maxAmount = definition.getMaxAmount();
+        this.keywordViolation = "error keyword in description or " + groupName;
+        this.blockedGroupViolation = "blocked " + groupName;
+        this.minAmountViolation = "amount below " + minAmount;
+        this.maxAmountViolation = "amount above " + maxAmount;
+    }
+
+    public static CompiledRuleSet compile(RuleSetDefinition definition, String groupName) {
+        BigDecimal minAmount = definition.getMinAmount();
+        BigDecimal maxAmount = definition.getMaxAmount();
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("minAmount must not be greater than maxAmount");
+        }
+
+        List<String> keywords = definition.getErrorKeywords() != null ? definition.getErrorKeywords() : List.of();
+        Set<String> blockedGroups = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (definition.getBlockedGroups() != null) {
+            for (String group : definition.getBlockedGroups()) {
+                if (group != null && !group.isBlank()) {
+                    blockedGroups.add(group.trim());
+                }
+            }
+        }
+
+        RuleSetDefinition snapshot = new RuleSetDefinition(List.copyOf(keywords), List.copyOf(blockedGroups),
+                minAmount, maxAmount);
+        return new CompiledRuleSet(snapshot, KeywordMatcher.compile(keywords), blockedGroups, groupName);
+    }
+
+    public String evaluate(String description, String group, BigDecimal amount) {
+        if (minAmount != null && amount.compareTo(minAmount) < 0) {
+            return minAmountViolation;
+        }
+        if (maxAmount != null && amount.compareTo(maxAmount) > 0) {
+            return maxAmountViolation;
+        }
+        if (!blockedGroups.isEmpty() && blockedGroups.contains(group)) {
+            return blockedGroupViolation;
+        }
+        if (keywordMatcher.matches(description) || keywordMatcher.matches(group)) {
+            return keywordViolation;
+        }
+        return null;
+    }
+
+    public RuleSetDefinition getDefinition() {
+        return definition;
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.suit.DLQ.application.rules;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Aho-Corasick sem distinção de maiúsculas: compilado uma vez, busca em uma única passada sem alocar
+public final class KeywordMatcher {
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final boolean[] terminal;
+
+    private KeywordMatcher(char[][] labels, int[][] targets, int[] failure, boolean[] terminal) {
+        this.labels = labels;
+        this.targets = targets;
+        this.failure = failure;
+        this.terminal = terminal;
+    }
+
+    public static KeywordMatcher compile(Collection<String> keywords) {
+        List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        List<Boolean> terminalStates = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        terminalStates.add(false);
+
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(c, next);
+                    transitions.add(new TreeMap<>());
+                    terminalStates.add(false);
+                }
+                state = next;
+            }
+            terminalStates.set(state, true);
+        }
+
+        int states = transitions.size();
+        char[][] labels = new char[states][];
+        int[][] targets = new int[states][];
+        int[] failure = new int[states];
+        boolean[] terminal = new boolean[states];
+        for (int state = 0; state < states; state++) {
+            Map<Character, Integer> edges = transitions.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int edge = 0;
+            for (Map.Entry<Character, Integer> entry : edges.entrySet()) {
+                labels[state][edge] = entry.getKey();
+                targets[state][edge] = entry.getValue();
+                edge++;
+            }
+            terminal[state] = terminalStates.get(state);
+        }
+
+        // Links de falha em largura; um estado é terminal se algum sufixo dele também for
+        KeywordMatcher matcher = new KeywordMatcher(labels, targets, failure, terminal);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int edge = 0; edge < labels[state].length; edge++) {
+                int child = targets[state][edge];
+                int fallback = failure[state];
+                int next;
+                while ((next = matcher.transition(fallback, labels[state][edge])) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next >= 0 ? next : 0;
+                terminal[child] |= terminal[failure[child]];
+                queue.add(child);
+            }
+        }
+        return matcher;
+    }
+
+    public boolean matches(CharSequence text) {
+        if (labels[0].length == 0) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = transition(state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = next >= 0 ? next : 0;
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int transition(int state, char c) {
+        char[] stateLabels = labels[state];
+        int low = 0;
+        int high = stateLabels.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char label = stateLabels[middle];
+            if (label < c) {
+                low = middle + 1;
+            } else if (label > c) {
+                high = middle - 1;
+            } else {
+                return targets[state][middle];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.suit.DLQ.application.rules;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RuleSetDefinition {
+
+    private List<String> errorKeywords = new ArrayList<>();
+    private List<String> blockedGroups = new ArrayList<>();
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+
+    public RuleSetDefinition() {
+    }
+
+    public RuleSetDefinition(List<String> errorKeywords, List<String> blockedGroups, BigDecimal minAmount,
+                             BigDecimal maxAmount) {
+        this.errorKeywords = errorKeywords;
+        this.blockedGroups = blockedGroups;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+    }
+
+    public List<String> getErrorKeywords() {
+        return errorKeywords;
+    }
+
+    public void setErrorKeywords(List<String> errorKeywords) {
+        this.errorKeywords = errorKeywords;
+    }
+
+    // Categorias (despesas) ou origens (receitas) recusadas, sem distinção de maiúsculas
+    public List<String> getBlockedGroups() {
+        return blockedGroups;
+    }
+
+    public void setBlockedGroups(List<String> blockedGroups) {
+        this.blockedGroups = blockedGroups;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSetDefinition{" +
+                "errorKeywords=" + errorKeywords +
+                ", blockedGroups=" + blockedGroups +
+                ", minAmount=" + minAmount +
+                ", maxAmount=" + maxAmount +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.suit.DLQ.application.rules;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.Income;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Service
+public class ValidationRuleEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationRuleEngine.class);
+
+    // Trocadas atomicamente na recarga: mensagens em processamento usam o conjunto anterior até o fim
+    private volatile CompiledRuleSet expenseRules;
+    private volatile CompiledRuleSet incomeRules;
+
+    public ValidationRuleEngine(@Value("${processing.validation.expense.error-keywords}") List<String> expenseKeywords,
+                                @Value("${processing.validation.expense.blocked-categories:}") List<String> blockedCategories,
+                                @Value("${processing.validation.expense.min-amount:#{null}}") BigDecimal expenseMinAmount,
+                                @Value("${processing.validation.expense.max-amount:#{null}}") BigDecimal expenseMaxAmount,
+                                @Value("${processing.validation.income.error-keywords}") List<String> incomeKeywords,
+                                @Value("${processing.validation.income.blocked-sources:}") List<String> blockedSources,
+                                @Value("${processing.validation.income.min-amount:#{null}}") BigDecimal incomeMinAmount,
+                                @Value("${processing.validation.income.max-amount:#{null}}") BigDecimal incomeMaxAmount) {
+        updateExpenseRules(new RuleSetDefinition(expenseKeywords, blockedCategories, expenseMinAmount, expenseMaxAmount));
+        updateIncomeRules(new RuleSetDefinition(incomeKeywords, blockedSources, incomeMinAmount, incomeMaxAmount));
+    }
+
+    public String evaluate(Expense expense) {
+        return expenseRules.evaluate(expense.getDescription(), expense.getCategory(), expense.getAmount());
+    }
+
+    public String evaluate(Income income) {
+        return incomeRules.evaluate(income.getDescription(), income.getSource(), income.getAmount());
+    }
+
+    public RuleSetDefinition getExpenseRules() {
+        return expenseRules.getDefinition();
+    }
+
+    public RuleSetDefinition getIncomeRules() {
+        return incomeRules.getDefinition();
+    }
+
+    public void updateExpenseRules(RuleSetDefinition definition) {
+        expenseRules = CompiledRuleSet.compile(definition, "category");
+        logger.info("Expense validation rules loaded: {}", expenseRules.getDefinition());
+    }
+
+    public void updateIncomeRules(RuleSetDefinition definition) {
+        incomeRules = CompiledRuleSet.compile(definition, "source");
+        logger.info("Income validation rules loaded: {}", incomeRules.getDefinition());
+    }
+}
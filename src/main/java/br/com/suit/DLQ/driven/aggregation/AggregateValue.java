@@ -0,0 +1,21 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import java.math.BigDecimal;
+
+public class AggregateValue {
+    private final long count;
+    private final BigDecimal total;
+
+    public AggregateValue(long count, BigDecimal total) {
+        this.count = count;
+        this.total = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+}
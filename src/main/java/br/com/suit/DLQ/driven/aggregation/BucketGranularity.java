@@ -0,0 +1,31 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import java.time.temporal.ChronoUnit;
+
+public enum BucketGranularity {
+    // Retenção em buckets a partir do mais recente: 1 dia de minutos, 30 dias de horas, 2 anos de dias
+    MINUTE(ChronoUnit.MINUTES, 1440),
+    HOUR(ChronoUnit.HOURS, 720),
+    DAY(ChronoUnit.DAYS, 730);
+
+    private final ChronoUnit unit;
+    private final int retainedBuckets;
+
+    BucketGranularity(ChronoUnit unit, int retainedBuckets) {
+        this.unit = unit;
+        this.retainedBuckets = retainedBuckets;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    public int getRetainedBuckets() {
+        return retainedBuckets;
+    }
+
+    // Distância máxima entre o início do bucket mais antigo retido e o do mais recente
+    public long getRetentionSeconds() {
+        return (retainedBuckets - 1) * unit.getDuration().getSeconds();
+    }
+}
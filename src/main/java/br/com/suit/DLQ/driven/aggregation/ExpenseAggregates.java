@@ -0,0 +1,18 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExpenseAggregates extends FinancialAggregates<Expense> implements RepositoryListener<Expense> {
+
+    public ExpenseAggregates() {
+        super(Expense::getCategory, Expense::getAmount, Expense::getDateTime);
+    }
+
+    @Override
+    public void onSave(Expense previous, Expense current) {
+        apply(previous, current);
+    }
+}
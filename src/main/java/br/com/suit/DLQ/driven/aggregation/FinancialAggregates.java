@@ -0,0 +1,112 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+// Totais mantidos incrementalmente a cada save: leituras não percorrem o repositório
+public class FinancialAggregates<T> {
+
+    static final int AMOUNT_SCALE = 2;
+
+    private final Function<T, String> groupExtractor;
+    private final Function<T, BigDecimal> amountExtractor;
+    private final Function<T, LocalDateTime> dateTimeExtractor;
+
+    private final RunningAggregate total = new RunningAggregate();
+    private final Map<String, RunningAggregate> byGroup = new ConcurrentHashMap<>();
+    private final Map<BucketGranularity, ConcurrentNavigableMap<Long, RunningAggregate>> byBucket =
+            new EnumMap<>(BucketGranularity.class);
+
+    protected FinancialAggregates(Function<T, String> groupExtractor, Function<T, BigDecimal> amountExtractor,
+                                  Function<T, LocalDateTime> dateTimeExtractor) {
+        this.groupExtractor = groupExtractor;
+        this.amountExtractor = amountExtractor;
+        this.dateTimeExtractor = dateTimeExtractor;
+        for (BucketGranularity granularity : BucketGranularity.values()) {
+            byBucket.put(granularity, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    // Remove a contribuição da versão anterior e soma a atual; a ordem entre saves concorrentes não altera o resultado
+    public void apply(T previous, T current) {
+        if (previous != null) {
+            long cents = toCents(amountExtractor.apply(previous));
+            total.subtract(cents);
+            RunningAggregate group = byGroup.get(groupExtractor.apply(previous));
+            if (group != null) {
+                group.subtract(cents);
+            }
+            for (BucketGranularity granularity : BucketGranularity.values()) {
+                RunningAggregate bucket = byBucket.get(granularity).get(bucketOf(previous, granularity));
+                if (bucket != null) {
+                    bucket.subtract(cents);
+                }
+            }
+        }
+
+        long cents = toCents(amountExtractor.apply(current));
+        total.add(cents);
+        byGroup.computeIfAbsent(groupExtractor.apply(current), key -> new RunningAggregate()).add(cents);
+        for (BucketGranularity granularity : BucketGranularity.values()) {
+            ConcurrentNavigableMap<Long, RunningAggregate> buckets = byBucket.get(granularity);
+            buckets.computeIfAbsent(bucketOf(current, granularity), key -> new RunningAggregate()).add(cents);
+            // Retenção por intervalo de chaves a partir do bucket mais recente: size() do skip list é O(n)
+            buckets.headMap(buckets.lastKey() - granularity.getRetentionSeconds()).clear();
+        }
+    }
+
+    public AggregateValue total() {
+        return total.value();
+    }
+
+    public AggregateValue group(String group) {
+        RunningAggregate aggregate = byGroup.get(group);
+        return aggregate != null ? aggregate.value() : new AggregateValue(0, BigDecimal.valueOf(0, AMOUNT_SCALE));
+    }
+
+    public Map<String, AggregateValue> groups() {
+        Map<String, AggregateValue> groups = new TreeMap<>();
+        byGroup.forEach((group, aggregate) -> groups.put(group, aggregate.value()));
+        return groups;
+    }
+
+    public List<TimeBucketValue> timeline(BucketGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        ConcurrentNavigableMap<Long, RunningAggregate> buckets = byBucket.get(granularity);
+        if (from != null) {
+            buckets = buckets.tailMap(epochSecond(from.truncatedTo(granularity.getUnit())), true);
+        }
+        if (to != null) {
+            buckets = buckets.headMap(epochSecond(to), true);
+        }
+        List<TimeBucketValue> timeline = new ArrayList<>(buckets.size());
+        buckets.forEach((start, aggregate) -> {
+            AggregateValue value = aggregate.value();
+            timeline.add(new TimeBucketValue(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC),
+                    value.getCount(), value.getTotal()));
+        });
+        return timeline;
+    }
+
+    private long bucketOf(T record, BucketGranularity granularity) {
+        return epochSecond(dateTimeExtractor.apply(record).truncatedTo(granularity.getUnit()));
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IncomeAggregates extends FinancialAggregates<Income> implements RepositoryListener<Income> {
+
+    public IncomeAggregates() {
+        super(Income::getSource, Income::getAmount, Income::getDateTime);
+    }
+
+    @Override
+    public void onSave(Income previous, Income current) {
+        apply(previous, current);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contagem e soma em centavos com LongAdder: escritas concorrentes não disputam a mesma célula
+class RunningAggregate {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder cents = new LongAdder();
+
+    void add(long amountCents) {
+        count.increment();
+        cents.add(amountCents);
+    }
+
+    void subtract(long amountCents) {
+        count.decrement();
+        cents.add(-amountCents);
+    }
+
+    AggregateValue value() {
+        return new AggregateValue(count.sum(), BigDecimal.valueOf(cents.sum(), FinancialAggregates.AMOUNT_SCALE));
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.suit.DLQ.driven.aggregation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TimeBucketValue extends AggregateValue {
+    private final LocalDateTime start;
+
+    public TimeBucketValue(LocalDateTime start, long count, BigDecimal total) {
+        super(count, total);
+        this.start = start;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.suit.DLQ.driven.audit;
+
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Leitor de linha de comando: ./gradlew auditReader --args="<arquivo ou diretório> [id da mensagem]"
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AuditLogReader <audit file or directory> [message id]");
+            System.exit(1);
+        }
+        String messageIdFilter = args.length > 1 ? args[1] : null;
+        for (Path file : auditFiles(Path.of(args[0]))) {
+            read(file, messageIdFilter, System.out);
+        }
+    }
+
+    static void read(Path file, String messageIdFilter, PrintStream out) throws IOException {
+        PipelineMetrics.Stage[] stages = PipelineMetrics.Stage.values();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readLong() != AuditRecordFormat.MAGIC || input.readByte() != AuditRecordFormat.VERSION) {
+                throw new IOException("Not an audit log file: " + file);
+            }
+            while (true) {
+                long epochMillis;
+                try {
+                    epochMillis = input.readLong();
+                } catch (EOFException e) {
+                    return;
+                }
+                long durationNanos = input.readLong();
+                int stage = input.readUnsignedByte();
+                boolean success = input.readBoolean();
+                String messageId = input.readUTF();
+                String messageType = input.readUTF();
+
+                if (messageIdFilter == null || messageIdFilter.equals(messageId)) {
+                    out.printf("%s %-16s %-7s %-8s %s %.3f ms%n", Instant.ofEpochMilli(epochMillis),
+                            stage < stages.length ? stages[stage].getTagValue() : "stage-" + stage,
+                            success ? "success" : "failure", messageType, messageId, durationNanos / 1_000_000.0);
+                }
+            }
+        } catch (EOFException e) {
+            // Arquivo em escrita: o último registro pode estar incompleto
+        }
+    }
+
+    private static List<Path> auditFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files
+                    .filter(file -> file.getFileName().toString().startsWith(AuditRecordFormat.FILE_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(AuditRecordFormat.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
\ No newline at end of file
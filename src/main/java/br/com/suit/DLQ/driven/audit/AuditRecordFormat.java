@@ -0,0 +1,16 @@
+package br.com.suit.DLQ.driven.audit;
+
+// Layout binário dos arquivos de auditoria, compartilhado entre o writer e o leitor
+final class AuditRecordFormat {
+
+    // Cabeçalho do arquivo: magic + versão
+    static final long MAGIC = 0x444C514155444954L;
+    static final byte VERSION = 1;
+
+    // Registro: epochMillis (long), durationNanos (long), etapa (byte), sucesso (byte), id (UTF), tipo (UTF)
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".bin";
+
+    private AuditRecordFormat() {
+    }
+}
\ No newline at end of file
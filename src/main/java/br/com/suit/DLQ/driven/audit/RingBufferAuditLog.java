@@ -0,0 +1,181 @@
+package br.com.suit.DLQ.driven.audit;
+
+import br.com.suit.DLQ.application.ports.outbound.AuditLog;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class RingBufferAuditLog implements AuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferAuditLog.class);
+
+    private static final long SAMPLE_SPACE = 1L << 24;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final long sampleThreshold;
+    private final boolean recordFailures;
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final long flushIntervalNanos;
+
+    // Slots pré-alocados: produtores reservam uma sequência por CAS e publicam o slot com escrita release
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLongArray published;
+    private final long[] timestamps;
+    private final long[] durations;
+    private final byte[] stages;
+    private final boolean[] outcomes;
+    private final String[] messageIds;
+    private final String[] messageTypes;
+    private volatile long consumed;
+
+    private final Counter dropped;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public RingBufferAuditLog(MeterRegistry meterRegistry,
+                              @Value("${processing.audit.enabled}") boolean enabled,
+                              @Value("${processing.audit.sample-rate}") double sampleRate,
+                              @Value("${processing.audit.record-failures}") boolean recordFailures,
+                              @Value("${processing.audit.buffer-size}") int bufferSize,
+                              @Value("${processing.audit.directory}") String directory,
+                              @Value("${processing.audit.max-file-size}") long maxFileSize,
+                              @Value("${processing.audit.max-files}") int maxFiles,
+                              @Value("${processing.audit.flush-interval}") long flushIntervalMillis) {
+        this.enabled = enabled;
+        this.sampleThreshold = (long) (Math.max(0, Math.min(1, sampleRate)) * SAMPLE_SPACE);
+        this.recordFailures = recordFailures;
+        this.directory = Path.of(directory);
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.timestamps = new long[capacity];
+        this.durations = new long[capacity];
+        this.stages = new byte[capacity];
+        this.outcomes = new boolean[capacity];
+        this.messageIds = new String[capacity];
+        this.messageTypes = new String[capacity];
+
+        this.dropped = Counter.builder("audit.dropped")
+                .description("Audit records dropped because the ring buffer was full").register(meterRegistry);
+        Gauge.builder("audit.backlog", this, log -> log.claimed.get() - log.consumed)
+                .description("Audit records waiting to be written").register(meterRegistry);
+
+        this.writerThread = new Thread(this::writeLoop, "audit-writer");
+        this.writerThread.setDaemon(true);
+        if (enabled) {
+            writerThread.start();
+            logger.info("Audit log writing to {} with sample rate {} and buffer of {} records",
+                    this.directory.toAbsolutePath(), sampleRate, capacity);
+        }
+    }
+
+    @Override
+    public void record(String messageId, String messageType, PipelineMetrics.Stage stage, boolean success,
+                       long durationNanos) {
+        if (!enabled || !(sampled(messageId) || (!success && recordFailures))) {
+            return;
+        }
+
+        long sequence;
+        do {
+            sequence = claimed.get();
+            // Buffer cheio: descarta em vez de bloquear o caminho quente
+            if (sequence - consumed > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        timestamps[slot] = System.currentTimeMillis();
+        durations[slot] = durationNanos;
+        stages[slot] = (byte) stage.ordinal();
+        outcomes[slot] = success;
+        messageIds[slot] = messageId != null ? messageId : "";
+        messageTypes[slot] = messageType;
+        published.setRelease(slot, sequence);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // Amostragem pelo hash do id: todas as etapas de uma mensagem amostrada são registradas
+    private boolean sampled(String messageId) {
+        if (messageId == null) {
+            return false;
+        }
+        int hash = messageId.hashCode() * 0x9E3779B9;
+        return (hash >>> 8) < sampleThreshold;
+    }
+
+    private void writeLoop() {
+        try (RollingAuditFileWriter writer = new RollingAuditFileWriter(directory, maxFileSize, maxFiles)) {
+            long lastFlushAt = System.nanoTime();
+            boolean pending = false;
+            while (running || consumed < claimed.get()) {
+                long sequence = consumed;
+                int slot = (int) (sequence & mask);
+                if (published.getAcquire(slot) != sequence) {
+                    if (pending) {
+                        writer.flush();
+                        pending = false;
+                        lastFlushAt = System.nanoTime();
+                    }
+                    if (!running) {
+                        // Relido depois de running = false: o slot pode ter sido publicado entre as duas leituras
+                        if (published.getAcquire(slot) == sequence) {
+                            continue;
+                        }
+                        // Slot reservado mas nunca publicado (produtor interrompido): encerra sem esperar
+                        break;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+
+                writer.write(timestamps[slot], durations[slot], stages[slot], outcomes[slot], messageIds[slot],
+                        messageTypes[slot]);
+                messageIds[slot] = null;
+                messageTypes[slot] = null;
+                consumed = sequence + 1;
+                pending = true;
+
+                if (System.nanoTime() - lastFlushAt >= flushIntervalNanos) {
+                    writer.flush();
+                    pending = false;
+                    lastFlushAt = System.nanoTime();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Audit log writer stopped: failed to write to {}", directory, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package br.com.suit.DLQ.driven.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Usado apenas pela thread de escrita do audit log: não é thread-safe
+class RollingAuditFileWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollingAuditFileWriter.class);
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxFiles;
+
+    private DataOutputStream output;
+    private int fileSequence;
+
+    RollingAuditFileWriter(Path directory, long maxFileSize, int maxFiles) throws IOException {
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        Files.createDirectories(directory);
+        roll();
+    }
+
+    void write(long epochMillis, long durationNanos, byte stage, boolean success, String messageId,
+               String messageType) throws IOException {
+        if (output.size() >= maxFileSize) {
+            roll();
+        }
+        output.writeLong(epochMillis);
+        output.writeLong(durationNanos);
+        output.writeByte(stage);
+        output.writeBoolean(success);
+        output.writeUTF(messageId);
+        output.writeUTF(messageType);
+    }
+
+    void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private void roll() throws IOException {
+        if (output != null) {
+            output.close();
+        }
+        // Sequência no nome: rotações no mesmo milissegundo não sobrescrevem o arquivo anterior
+        Path file = directory.resolve(String.format("%s%013d-%06d%s", AuditRecordFormat.FILE_PREFIX,
+                System.currentTimeMillis(), fileSequence++ % 1_000_000, AuditRecordFormat.FILE_SUFFIX));
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024));
+        output.writeLong(AuditRecordFormat.MAGIC);
+        output.writeByte(AuditRecordFormat.VERSION);
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(AuditRecordFormat.FILE_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(AuditRecordFormat.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+            logger.debug("Deleted old audit file {}", files.get(i));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+class ExpiringSeenSet implements SeenSet {
+
+    private final Map<String, Long> expirations = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    ExpiringSeenSet(long ttlNanos, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        Long expiresAt = expirations.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - System.nanoTime() < 0) {
+            expirations.remove(id, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void add(String id) {
+        long expiresAt = System.nanoTime() + ttlNanos;
+        expirations.put(id, expiresAt);
+        insertionOrder.offer(new Entry(id, expiresAt));
+        evict();
+    }
+
+    @Override
+    public long size() {
+        return expirations.size();
+    }
+
+    // Remove pela ordem de inserção as entradas expiradas e as que excedem o limite
+    private void evict() {
+        long now = System.nanoTime();
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (expirations.size() > maxEntries || oldest.expiresAt() - now < 0)) {
+            Entry evicted = insertionOrder.poll();
+            if (evicted != null) {
+                // Só remove se o id não foi registrado novamente com outra expiração
+                expirations.remove(evicted.id(), evicted.expiresAt());
+            }
+        }
+    }
+
+    private record Entry(String id, long expiresAt) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+public enum IdempotencyMode {
+    // Conjunto exato com expiração e limite de entradas
+    EXACT,
+    // Filtro de Bloom rotativo: memória fixa para janelas muito grandes, com falsos positivos raros
+    BLOOM
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+import br.com.suit.DLQ.application.ports.outbound.ProcessedMessageRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+@Component
+public class InMemoryProcessedMessageRegistry implements ProcessedMessageRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryProcessedMessageRegistry.class);
+
+    private final SeenSet seenSet;
+    private final boolean confirmHits;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter falsePositives;
+
+    public InMemoryProcessedMessageRegistry(MeterRegistry meterRegistry,
+                                            @Value("${processing.idempotency.mode}") IdempotencyMode mode,
+                                            @Value("${processing.idempotency.ttl}") long ttlMillis,
+                                            @Value("${processing.idempotency.max-entries}") int maxEntries,
+                                            @Value("${processing.idempotency.bloom.expected-insertions}") long expectedInsertions,
+                                            @Value("${processing.idempotency.bloom.false-positive-rate}") double falsePositiveRate) {
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.seenSet = mode == IdempotencyMode.BLOOM
+                ? new RotatingBloomSeenSet(expectedInsertions, falsePositiveRate, ttlNanos)
+                : new ExpiringSeenSet(ttlNanos, maxEntries);
+        this.confirmHits = mode == IdempotencyMode.BLOOM;
+
+        this.hits = Counter.builder("idempotency.lookups").tag("result", "hit")
+                .description("Messages recognized as already processed").register(meterRegistry);
+        this.misses = Counter.builder("idempotency.lookups").tag("result", "miss")
+                .description("Messages not seen before").register(meterRegistry);
+        this.falsePositives = Counter.builder("idempotency.lookups").tag("result", "false_positive")
+                .description("Bloom filter hits not confirmed by the repository").register(meterRegistry);
+        Gauge.builder("idempotency.entries", seenSet, SeenSet::size)
+                .description("Ids currently tracked by the idempotency window").register(meterRegistry);
+
+        logger.info("Idempotency registry initialized in {} mode with ttl of {} ms", mode, ttlMillis);
+    }
+
+    @Override
+    public boolean isProcessed(String id, Predicate<String> isStored) {
+        if (!seenSet.contains(id)) {
+            misses.increment();
+            return false;
+        }
+        // O filtro de Bloom só evita a consulta nas ausências: um acerto pode ser falso positivo e precisa
+        // ser confirmado no repositório, senão uma transação nova seria descartada sem deixar rastro
+        if (confirmHits && !isStored.test(id)) {
+            falsePositives.increment();
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    @Override
+    public void markProcessed(String id) {
+        seenSet.add(id);
+    }
+}
\ No newline at end of file
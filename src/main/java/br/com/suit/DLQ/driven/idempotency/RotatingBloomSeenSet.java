@@ -0,0 +1,114 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class RotatingBloomSeenSet implements SeenSet {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long windowNanos;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long windowStartedAt;
+
+    RotatingBloomSeenSet(long expectedInsertions, double falsePositiveRate, long ttlNanos) {
+        // Dimensionamento clássico: m = -n ln(p) / ln(2)^2 e k = m/n ln(2)
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64L, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        // Dois filtros de meia janela cada: um id permanece visível entre metade e a janela inteira
+        this.windowNanos = Math.max(1L, ttlNanos / 2);
+        this.current = newBitArray();
+        this.previous = newBitArray();
+        this.windowStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public boolean contains(String id) {
+        rotateIfExpired();
+        long hash = hash64(id);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        AtomicLongArray currentBits = current;
+        AtomicLongArray previousBits = previous;
+        return mightContain(currentBits, hash1, hash2) || mightContain(previousBits, hash1, hash2);
+    }
+
+    @Override
+    public void add(String id) {
+        rotateIfExpired();
+        long hash = hash64(id);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        AtomicLongArray bits = current;
+        for (int i = 0; i < hashCount; i++) {
+            int index = bitIndex(hash1, hash2, i);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long value;
+            do {
+                value = bits.get(word);
+                if ((value & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, value, value | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    @Override
+    public long size() {
+        return insertions.get();
+    }
+
+    private boolean mightContain(AtomicLongArray bits, int hash1, int hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = bitIndex(hash1, hash2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotateIfExpired() {
+        if (System.nanoTime() - windowStartedAt < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - windowStartedAt >= windowNanos) {
+                previous = current;
+                current = newBitArray();
+                windowStartedAt = now;
+                insertions.set(0);
+            }
+        }
+    }
+
+    // Double hashing (Kirsch-Mitzenmacher): k índices a partir de dois hashes
+    private int bitIndex(int hash1, int hash2, int i) {
+        int combined = hash1 + i * hash2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // FNV-1a de 64 bits sobre os chars, com finalização do MurmurHash3: sem alocar bytes
+    private static long hash64(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private AtomicLongArray newBitArray() {
+        return new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+interface SeenSet {
+    boolean contains(String id);
+
+    void add(String id);
+
+    long size();
+}
\ No newline at end of file
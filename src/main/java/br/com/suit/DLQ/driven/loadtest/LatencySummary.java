@@ -0,0 +1,47 @@
+package br.com.suit.DLQ.driven.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+// Percentis em milissegundos a partir de um histograma em microssegundos
+public class LatencySummary {
+
+    private final long count;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+
+    public LatencySummary(Histogram histogram) {
+        this.count = histogram.getTotalCount();
+        this.meanMillis = histogram.getMean() / 1000.0;
+        this.p50Millis = histogram.getValueAtPercentile(50) / 1000.0;
+        this.p99Millis = histogram.getValueAtPercentile(99) / 1000.0;
+        this.p999Millis = histogram.getValueAtPercentile(99.9) / 1000.0;
+        this.maxMillis = histogram.getMaxValue() / 1000.0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getP999Millis() {
+        return p999Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,237 @@
+package br.com.suit.DLQ.driven.loadtest;
+
+import br.com.suit.DLQ.driven.messaging.replay.TokenBucketRateLimiter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadTestJob {
+
+    // Latências acima de 10 minutos são registradas no limite do histograma
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String id;
+    private final double targetRate;
+    private final int durationSeconds;
+    private final double errorRatio;
+    private final double expenseRatio;
+    private final int minPayloadBytes;
+    private final int maxPayloadBytes;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final LocalDateTime startedAt;
+    private final long startedAtNanos;
+
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong expectedFailures = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong publishFailures = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong outstanding = new AtomicLong();
+
+    // Recorder aceita escritas concorrentes sem lock; os histogramas acumulados são lidos sob o monitor do job
+    private final Recorder publishLatencyRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder endToEndLatencyRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram publishLatency = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram endToEndLatency = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+
+    private volatile LoadTestStatus status = LoadTestStatus.RUNNING;
+    private volatile long generationEndedAtNanos;
+    private volatile long finishedAtNanos;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureReason;
+
+    public LoadTestJob(String id, double targetRate, int durationSeconds, double errorRatio, double expenseRatio,
+                       int minPayloadBytes, int maxPayloadBytes) {
+        this.id = id;
+        this.targetRate = targetRate;
+        this.durationSeconds = durationSeconds;
+        this.errorRatio = errorRatio;
+        this.expenseRatio = expenseRatio;
+        this.minPayloadBytes = minPayloadBytes;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.rateLimiter = new TokenBucketRateLimiter(targetRate);
+        this.startedAt = LocalDateTime.now();
+        this.startedAtNanos = System.nanoTime();
+    }
+
+    boolean isGenerating() {
+        return status == LoadTestStatus.RUNNING
+                && System.nanoTime() - startedAtNanos < TimeUnit.SECONDS.toNanos(durationSeconds);
+    }
+
+    boolean isActive() {
+        LoadTestStatus current = status;
+        return current == LoadTestStatus.RUNNING || current == LoadTestStatus.DRAINING;
+    }
+
+    void acquirePermit() {
+        rateLimiter.acquire();
+    }
+
+    void recordGenerated(boolean expectedFailure) {
+        generated.incrementAndGet();
+        if (expectedFailure) {
+            expectedFailures.incrementAndGet();
+        } else {
+            outstanding.incrementAndGet();
+        }
+    }
+
+    void recordPublished(long latencyNanos) {
+        published.incrementAndGet();
+        publishLatencyRecorder.recordValue(toMicros(latencyNanos));
+    }
+
+    void recordPublishFailure(boolean tracked) {
+        publishFailures.incrementAndGet();
+        if (tracked) {
+            outstanding.decrementAndGet();
+        }
+    }
+
+    void recordCompleted(long latencyNanos) {
+        completed.incrementAndGet();
+        outstanding.decrementAndGet();
+        endToEndLatencyRecorder.recordValue(toMicros(latencyNanos));
+    }
+
+    synchronized void drain() {
+        if (status == LoadTestStatus.RUNNING) {
+            status = LoadTestStatus.DRAINING;
+        }
+        generationEndedAtNanos = System.nanoTime();
+    }
+
+    public synchronized boolean cancel() {
+        if (!isActive()) {
+            return false;
+        }
+        finish(LoadTestStatus.CANCELLED);
+        return true;
+    }
+
+    synchronized void complete() {
+        if (isActive()) {
+            finish(LoadTestStatus.COMPLETED);
+        }
+    }
+
+    synchronized void fail(String reason) {
+        if (isActive()) {
+            failureReason = reason;
+            finish(LoadTestStatus.FAILED);
+        }
+    }
+
+    private void finish(LoadTestStatus finalStatus) {
+        status = finalStatus;
+        finishedAtNanos = System.nanoTime();
+        if (generationEndedAtNanos == 0) {
+            generationEndedAtNanos = finishedAtNanos;
+        }
+        finishedAt = LocalDateTime.now();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LoadTestStatus getStatus() {
+        return status;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public double getErrorRatio() {
+        return errorRatio;
+    }
+
+    public double getExpenseRatio() {
+        return expenseRatio;
+    }
+
+    public int getMinPayloadBytes() {
+        return minPayloadBytes;
+    }
+
+    public int getMaxPayloadBytes() {
+        return maxPayloadBytes;
+    }
+
+    public long getGenerated() {
+        return generated.get();
+    }
+
+    public long getExpectedFailures() {
+        return expectedFailures.get();
+    }
+
+    public long getPublished() {
+        return published.get();
+    }
+
+    public long getPublishFailures() {
+        return publishFailures.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    // Mensagens válidas publicadas que ainda não chegaram ao repositório; ao final, as perdidas no prazo de drenagem
+    public long getPending() {
+        return outstanding.get();
+    }
+
+    // Vazão de geração atingida, comparável à taxa alvo
+    public double getGeneratedRate() {
+        long endNanos = generationEndedAtNanos != 0 ? generationEndedAtNanos : System.nanoTime();
+        return perSecond(generated.get(), endNanos - startedAtNanos);
+    }
+
+    // Vazão fim a fim: mensagens salvas por segundo desde o início do teste
+    public double getThroughput() {
+        long endNanos = finishedAtNanos != 0 ? finishedAtNanos : System.nanoTime();
+        return perSecond(completed.get(), endNanos - startedAtNanos);
+    }
+
+    public synchronized LatencySummary getPublishLatency() {
+        publishLatency.add(publishLatencyRecorder.getIntervalHistogram());
+        return new LatencySummary(publishLatency);
+    }
+
+    public synchronized LatencySummary getEndToEndLatency() {
+        endToEndLatency.add(endToEndLatencyRecorder.getIntervalHistogram());
+        return new LatencySummary(endToEndLatency);
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    private static double perSecond(long count, long elapsedNanos) {
+        return elapsedNanos <= 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package br.com.suit.DLQ.driven.loadtest;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Marca o fim da latência fim a fim: publicação HTTP/gerador -> save no repositório
+@Configuration
+public class LoadTestProbes {
+
+    @Bean
+    public RepositoryListener<Expense> expenseLoadTestProbe(LoadTestService loadTestService) {
+        return (previous, current) -> loadTestService.onSaved(current.getId());
+    }
+
+    @Bean
+    public RepositoryListener<Income> incomeLoadTestProbe(LoadTestService loadTestService) {
+        return (previous, current) -> loadTestService.onSaved(current.getId());
+    }
+}
\ No newline at end of file
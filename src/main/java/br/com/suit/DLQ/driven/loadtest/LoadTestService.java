@@ -0,0 +1,188 @@
+package br.com.suit.DLQ.driven.loadtest;
+
+import br.com.suit.DLQ.application.commands.RecordExpense;
+import br.com.suit.DLQ.application.commands.RecordIncome;
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.rules.ValidationRuleEngine;
+import br.com.suit.DLQ.driven.messaging.config.FinancialFlowsConfig;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class LoadTestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestService.class);
+
+    private static final String[] CATEGORIES = {"Alimentação", "Transporte", "Material", "Serviços", "Viagem"};
+    private static final String[] SOURCES = {"Salário", "Freelance", "Investimentos", "Vendas", "Reembolso"};
+    // Aciona a regra padrão de palavras de erro: a mensagem segue para retry e DLQ
+    private static final String ERROR_MARKER = " erro ";
+    // Só dígitos e espaços: o preenchimento nunca forma uma palavra de erro por acaso
+    private static final char[] FILLER = "0123456789 ".toCharArray();
+    private static final long DRAIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final MessageTransport messageTransport;
+    private final ValidationRuleEngine ruleEngine;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, LoadTestJob> jobs = new ConcurrentHashMap<>();
+    // Mensagens geradas aguardando o save: id -> instante da publicação
+    private final Map<String, PendingMessage> pendingMessages = new ConcurrentHashMap<>();
+
+    @Value("${processing.load-test.max-rate}")
+    private double maxRate;
+
+    @Value("${processing.load-test.max-duration}")
+    private int maxDurationSeconds;
+
+    @Value("${processing.load-test.drain-timeout}")
+    private long drainTimeoutMillis;
+
+    public LoadTestService(MessageTransport messageTransport, ValidationRuleEngine ruleEngine) {
+        this.messageTransport = messageTransport;
+        this.ruleEngine = ruleEngine;
+    }
+
+    public LoadTestJob start(double ratePerSecond, int durationSeconds, double errorRatio, double expenseRatio,
+                             int minPayloadBytes, int maxPayloadBytes) {
+        if (ratePerSecond <= 0 || ratePerSecond > maxRate) {
+            throw new IllegalArgumentException("Rate per second must be between 0 and " + maxRate);
+        }
+        if (durationSeconds <= 0 || durationSeconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + maxDurationSeconds + " seconds");
+        }
+        if (errorRatio < 0 || errorRatio > 1 || expenseRatio < 0 || expenseRatio > 1) {
+            throw new IllegalArgumentException("Error and expense ratios must be between 0 and 1");
+        }
+        if (minPayloadBytes <= 0 || minPayloadBytes > maxPayloadBytes) {
+            throw new IllegalArgumentException("Payload sizes must satisfy 0 < min <= max");
+        }
+
+        LoadTestJob job = new LoadTestJob(UUID.randomUUID().toString(), ratePerSecond, durationSeconds, errorRatio,
+                expenseRatio, minPayloadBytes, maxPayloadBytes);
+        jobs.put(job.getId(), job);
+        logger.info("Starting load test {}: {} msg/s for {} s, error ratio {}, expense ratio {}, payload {}-{} bytes",
+                job.getId(), ratePerSecond, durationSeconds, errorRatio, expenseRatio, minPayloadBytes, maxPayloadBytes);
+
+        CompletableFuture.runAsync(() -> run(job), workers).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.error("Load test {} failed", job.getId(), error);
+                job.fail(error.getMessage());
+            } else {
+                job.complete();
+            }
+            // Mensagens que não chegaram ao repositório no prazo deixam de ser acompanhadas
+            pendingMessages.values().removeIf(pending -> pending.job() == job);
+            logger.info("Load test {} finished with status {}: {} generated, {} completed, {} msg/s, e2e p99 {} ms",
+                    job.getId(), job.getStatus(), job.getGenerated(), job.getCompleted(),
+                    String.format("%.1f", job.getThroughput()),
+                    String.format("%.3f", job.getEndToEndLatency().getP99Millis()));
+        });
+        return job;
+    }
+
+    public LoadTestJob find(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public Collection<LoadTestJob> findAll() {
+        return jobs.values();
+    }
+
+    // Chamado pelos listeners de repositório a cada save: custo de um isEmpty fora de testes de carga
+    void onSaved(String id) {
+        if (pendingMessages.isEmpty()) {
+            return;
+        }
+        PendingMessage pending = pendingMessages.remove(id);
+        if (pending != null) {
+            pending.job().recordCompleted(System.nanoTime() - pending.publishedAtNanos());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(LoadTestJob::cancel);
+        workers.shutdown();
+    }
+
+    private void run(LoadTestJob job) {
+        while (job.isGenerating()) {
+            job.acquirePermit();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            boolean expense = random.nextDouble() < job.getExpenseRatio();
+            boolean injectError = random.nextDouble() < job.getErrorRatio();
+            String id = UUID.randomUUID().toString();
+            String description = description(random, job, injectError);
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(100, 1_000_000)).movePointLeft(2)
+                    .setScale(2, RoundingMode.UNNECESSARY);
+            String group = expense ? CATEGORIES[random.nextInt(CATEGORIES.length)] : SOURCES[random.nextInt(SOURCES.length)];
+            LocalDateTime dateTime = LocalDateTime.now();
+
+            Object command = expense
+                    ? new RecordExpense(id, description, amount, group, dateTime)
+                    : new RecordIncome(id, description, amount, group, dateTime);
+            String flow = expense ? FinancialFlowsConfig.EXPENSE_FLOW : FinancialFlowsConfig.INCOME_FLOW;
+            // Classificada pelas regras vigentes, que podem ter sido trocadas em execução (palavras, grupos, limites)
+            boolean expectedFailure = expense
+                    ? ruleEngine.evaluate(new Expense(id, description, amount, group, dateTime)) != null
+                    : ruleEngine.evaluate(new Income(id, description, amount, group, dateTime)) != null;
+
+            job.recordGenerated(expectedFailure);
+            long publishedAtNanos = System.nanoTime();
+            if (!expectedFailure) {
+                // Registrado antes da publicação: o save pode acontecer antes da confirmação do transporte
+                pendingMessages.put(id, new PendingMessage(job, publishedAtNanos));
+            }
+            messageTransport.publish(flow, command)
+                    .whenComplete((ignored, error) -> {
+                        if (error == null) {
+                            job.recordPublished(System.nanoTime() - publishedAtNanos);
+                        } else {
+                            // Só deixa de ser pendente se ainda não foi contabilizada como concluída
+                            job.recordPublishFailure(!expectedFailure && pendingMessages.remove(id) != null);
+                        }
+                    });
+        }
+
+        job.drain();
+        long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+        while (job.isActive() && job.getPending() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(DRAIN_POLL_NANOS);
+        }
+    }
+
+    // Descrição com tamanho uniforme entre os limites do job, para variar o tamanho do payload
+    private String description(ThreadLocalRandom random, LoadTestJob job, boolean injectError) {
+        int length = random.nextInt(job.getMinPayloadBytes(), job.getMaxPayloadBytes() + 1);
+        StringBuilder description = new StringBuilder(length + ERROR_MARKER.length()).append("Load test");
+        if (injectError) {
+            description.append(ERROR_MARKER);
+        }
+        while (description.length() < length) {
+            description.append(FILLER[random.nextInt(FILLER.length)]);
+        }
+        return description.toString();
+    }
+
+    private record PendingMessage(LoadTestJob job, long publishedAtNanos) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package br.com.suit.DLQ.driven.loadtest;
+
+public enum LoadTestStatus {
+    RUNNING,
+    DRAINING,
+    CANCELLED,
+    COMPLETED,
+    FAILED
+}
\ No newline at end of file
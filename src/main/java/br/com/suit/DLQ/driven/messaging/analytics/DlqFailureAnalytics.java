@@ -0,0 +1,149 @@
+package br.com.suit.DLQ.driven.messaging.analytics;
+
+import br.com.suit.DLQ.driven.messaging.publisher.DeadLetterHeaders;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class DlqFailureAnalytics {
+
+    private static final Logger logger = LoggerFactory.getLogger(DlqFailureAnalytics.class);
+
+    private static final String UNKNOWN = "unknown";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long windowMillis;
+    private final int topK;
+    private final WindowedCounts byErrorType;
+    private final WindowedCounts byGroup;
+    private final WindowedCounts byMessageType;
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    // Dois sketches de uma janela cada: o top-K reflete entre uma e duas janelas de tráfego
+    private volatile SpaceSavingSketch currentSketch;
+    private volatile SpaceSavingSketch previousSketch;
+    private volatile long sketchStartedAt;
+
+    public DlqFailureAnalytics(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${rabbitmq.dlq.analytics.window}") long windowMillis,
+                               @Value("${rabbitmq.dlq.analytics.buckets}") int buckets,
+                               @Value("${rabbitmq.dlq.analytics.max-keys}") int maxKeys,
+                               @Value("${rabbitmq.dlq.analytics.top-k}") int topK) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.windowMillis = windowMillis;
+        this.topK = topK;
+        this.byErrorType = new WindowedCounts(windowMillis, buckets, maxKeys);
+        this.byGroup = new WindowedCounts(windowMillis, buckets, maxKeys);
+        this.byMessageType = new WindowedCounts(windowMillis, buckets, maxKeys);
+        this.currentSketch = new SpaceSavingSketch(topK);
+        this.previousSketch = new SpaceSavingSketch(topK);
+        this.sketchStartedAt = System.currentTimeMillis();
+    }
+
+    // groupField: campo do comando que identifica o grupo ("category" para despesas, "source" para receitas)
+    public void record(Message message, String groupField) {
+        Map<String, Object> headers = message.getMessageProperties().getHeaders();
+        String errorType = headerValue(headers, DeadLetterHeaders.ERROR_TYPE);
+        String messageType = headerValue(headers, DeadLetterHeaders.MESSAGE_TYPE);
+        String classification = headerValue(headers, DeadLetterHeaders.CLASSIFICATION);
+        String group = UNKNOWN;
+
+        try {
+            JsonNode payload = objectMapper.readTree(message.getBody());
+            if (errorType == null) {
+                // Envelope JSON legado: metadados e comando original dentro do corpo
+                errorType = payload.path("errorType").asText(null);
+                messageType = payload.path("messageType").asText(null);
+                classification = payload.path("classification").asText(null);
+                payload = objectMapper.readTree(payload.path("originalMessage").asText(""));
+            }
+            group = payload.path(groupField).asText(UNKNOWN);
+        } catch (IOException e) {
+            logger.debug("Could not read DLQ payload for analytics", e);
+        }
+
+        record(errorType != null ? errorType : UNKNOWN, messageType != null ? messageType : UNKNOWN, group,
+                classification != null ? classification : UNKNOWN);
+    }
+
+    public FailureAnalyticsSnapshot snapshot() {
+        long now = System.currentTimeMillis();
+        rotateIfExpired(now);
+        return new FailureAnalyticsSnapshot(
+                TimeUnit.MILLISECONDS.toSeconds(windowMillis),
+                byErrorType.snapshot(now),
+                byGroup.snapshot(now),
+                byMessageType.snapshot(now),
+                topFailures()
+        );
+    }
+
+    private void record(String errorType, String messageType, String group, String classification) {
+        long now = System.currentTimeMillis();
+        byErrorType.increment(errorType, now);
+        byGroup.increment(messageType + ":" + group, now);
+        byMessageType.increment(messageType, now);
+
+        rotateIfExpired(now);
+        currentSketch.offer(messageType + ":" + group + ":" + errorType);
+
+        // Tags de baixa cardinalidade; grupos ficam apenas no endpoint de análise
+        counters.computeIfAbsent(new CounterKey(messageType, errorType, classification), key -> Counter
+                        .builder("dlq.failures")
+                        .tag("messageType", key.messageType())
+                        .tag("errorType", key.errorType())
+                        .tag("classification", key.classification())
+                        .description("Messages that reached a dead letter queue")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private List<HeavyHitter> topFailures() {
+        Map<String, long[]> merged = new HashMap<>(previousSketch.counters());
+        currentSketch.counters().forEach((key, counter) -> merged.merge(key, counter,
+                (previous, current) -> new long[]{previous[0] + current[0], previous[1] + current[1]}));
+
+        List<HeavyHitter> hitters = new ArrayList<>(merged.size());
+        merged.forEach((key, counter) -> hitters.add(new HeavyHitter(key, counter[0], counter[1])));
+        hitters.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        return hitters.size() > topK ? List.copyOf(hitters.subList(0, topK)) : hitters;
+    }
+
+    private void rotateIfExpired(long now) {
+        if (now - sketchStartedAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now - sketchStartedAt >= windowMillis) {
+                previousSketch = currentSketch;
+                currentSketch = new SpaceSavingSketch(topK);
+                sketchStartedAt = now;
+            }
+        }
+    }
+
+    private static String headerValue(Map<String, Object> headers, String name) {
+        Object value = headers.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private record CounterKey(String messageType, String errorType, String classification) {
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.suit.DLQ.driven.messaging.analytics;
+
+import java.util.List;
+import java.util.Map;
+
+public class FailureAnalyticsSnapshot {
+    private final long windowSeconds;
+    private final Map<String, Long> byErrorType;
+    private final Map<String, Long> byGroup;
+    private final Map<String, Long> byMessageType;
+    private final List<HeavyHitter> topFailures;
+
+    public FailureAnalyticsSnapshot(long windowSeconds, Map<String, Long> byErrorType, Map<String, Long> byGroup,
+                                    Map<String, Long> byMessageType, List<HeavyHitter> topFailures) {
+        this.windowSeconds = windowSeconds;
+        this.byErrorType = byErrorType;
+        this.byGroup = byGroup;
+        this.byMessageType = byMessageType;
+        this.topFailures = topFailures;
+    }
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public Map<String, Long> getByErrorType() {
+        return byErrorType;
+    }
+
+    // Categoria (despesas) ou origem (receitas), prefixada pelo tipo de mensagem
+    public Map<String, Long> getByGroup() {
+        return byGroup;
+    }
+
+    public Map<String, Long> getByMessageType() {
+        return byMessageType;
+    }
+
+    public List<HeavyHitter> getTopFailures() {
+        return topFailures;
+    }
+}
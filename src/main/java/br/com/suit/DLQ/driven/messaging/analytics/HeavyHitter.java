@@ -0,0 +1,25 @@
+package br.com.suit.DLQ.driven.messaging.analytics;
+
+public class HeavyHitter {
+    private final String key;
+    private final long count;
+    private final long maxOverestimate;
+
+    public HeavyHitter(String key, long count, long maxOverestimate) {
+        this.key = key;
+        this.count = count;
+        this.maxOverestimate = maxOverestimate;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxOverestimate() {
+        return maxOverestimate;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.suit.DLQ.driven.messaging.analytics;
+
+// Contador em anel de buckets de tempo: buckets fora da janela são reaproveitados na próxima escrita
+class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final long[] counts;
+    private final long[] bucketIds;
+
+    SlidingWindowCounter(long windowMillis, int buckets) {
+        this.bucketMillis = Math.max(1, windowMillis / buckets);
+        this.counts = new long[buckets];
+        this.bucketIds = new long[buckets];
+    }
+
+    synchronized void increment(long nowMillis) {
+        long bucketId = nowMillis / bucketMillis;
+        int slot = (int) (bucketId % counts.length);
+        if (bucketIds[slot] != bucketId) {
+            bucketIds[slot] = bucketId;
+            counts[slot] = 0;
+        }
+        counts[slot]++;
+    }
+
+    synchronized long sum(long nowMillis) {
+        long oldestBucketId = nowMillis / bucketMillis - counts.length;
+        long sum = 0;
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (bucketIds[slot] > oldestBucketId) {
+                sum += counts[slot];
+            }
+        }
+        return sum;
+    }
+}
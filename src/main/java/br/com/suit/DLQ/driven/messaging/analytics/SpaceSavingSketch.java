@@ -0,0 +1,45 @@
+package br.com.suit.DLQ.driven.messaging.analytics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Space-Saving (Metwally et al.): top-K aproximado com memória fixa de `capacity` contadores
+class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, long[]> counters = new HashMap<>();
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void offer(String key) {
+        long[] counter = counters.get(key);
+        if (counter != null) {
+            counter[0]++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new long[]{1, 0});
+            return;
+        }
+        // Substitui o menor contador; o valor herdado é o erro máximo da nova chave (busca O(k), k pequeno)
+        String minKey = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] < minCount) {
+                minCount = entry.getValue()[0];
+                minKey = entry.getKey();
+            }
+        }
+        counters.remove(minKey);
+        counters.put(key, new long[]{minCount + 1, minCount});
+    }
+
+    // Cópia dos contadores no formato {contagem, erro}
+    synchronized Map<String, long[]> counters() {
+        Map<String, long[]> copy = new HashMap<>();
+        counters.forEach((key, counter) -> copy.put(key, counter.clone()));
+        return copy;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.suit.DLQ.driven.messaging.analytics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Contagens por chave na janela deslizante; chaves além do limite são somadas em "other"
+class WindowedCounts {
+
+    static final String OTHER = "other";
+
+    private final Map<String, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final int buckets;
+    private final int maxKeys;
+
+    WindowedCounts(long windowMillis, int buckets, int maxKeys) {
+        this.windowMillis = windowMillis;
+        this.buckets = buckets;
+        this.maxKeys = maxKeys;
+    }
+
+    void increment(String key, long nowMillis) {
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter == null) {
+            String trackedKey = counters.size() < maxKeys ? key : OTHER;
+            counter = counters.computeIfAbsent(trackedKey, ignored -> new SlidingWindowCounter(windowMillis, buckets));
+        }
+        counter.increment(nowMillis);
+    }
+
+    // Ordenado da chave mais frequente para a menos frequente; chaves zeradas liberam espaço para novas
+    Map<String, Long> snapshot(long nowMillis) {
+        List<Map.Entry<String, Long>> active = new ArrayList<>();
+        for (Map.Entry<String, SlidingWindowCounter> entry : counters.entrySet()) {
+            long sum = entry.getValue().sum(nowMillis);
+            if (sum > 0) {
+                active.add(Map.entry(entry.getKey(), sum));
+            } else {
+                counters.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        active.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        Map<String, Long> sums = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : active) {
+            sums.put(entry.getKey(), entry.getValue());
+        }
+        return sums;
+    }
+}
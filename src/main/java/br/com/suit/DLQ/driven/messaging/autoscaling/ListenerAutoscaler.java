@@ -0,0 +1,224 @@
+package br.com.suit.DLQ.driven.messaging.autoscaling;
+
+import br.com.suit.DLQ.driven.messaging.config.RabbitListenerConfig;
+import br.com.suit.DLQ.driven.messaging.flow.FlowAutoscalingSettings;
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowListener;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ListenerAutoscaler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListenerAutoscaler.class);
+
+    private final RabbitListenerEndpointRegistry listenerEndpointRegistry;
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long backlogPerConsumer;
+    private final double scaleDownUtilization;
+    private final long maxLatencyNanos;
+    private final Map<String, FlowScaling> flows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public ListenerAutoscaler(RabbitListenerEndpointRegistry listenerEndpointRegistry,
+                              RabbitTemplate rabbitTemplate,
+                              MessageFlowRegistry messageFlowRegistry,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${rabbitmq.autoscaling.interval}") long intervalMillis,
+                              @Value("${rabbitmq.autoscaling.backlog-per-consumer}") long backlogPerConsumer,
+                              @Value("${rabbitmq.autoscaling.scale-down-utilization}") double scaleDownUtilization,
+                              @Value("${rabbitmq.autoscaling.max-latency}") long maxLatencyMillis) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.rabbitTemplate = rabbitTemplate;
+        this.messageFlowRegistry = messageFlowRegistry;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.backlogPerConsumer = backlogPerConsumer;
+        this.scaleDownUtilization = scaleDownUtilization;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            FlowSettings settings = messageFlowRegistry.settings(flow.getName());
+            if (settings.getAutoscaling().isEnabled() && settings.getSharding().isEnabled()) {
+                logger.warn("Flow {} is sharded: autoscaling is ignored, each partition keeps a single consumer",
+                        flow.getName());
+            }
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "listener-autoscaler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::evaluate, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void evaluate() {
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            FlowSettings settings = messageFlowRegistry.settings(flow.getName());
+            // Fluxo particionado: um consumidor por partição, e a fila settings.getName() não é a que recebe
+            if (!settings.getAutoscaling().isEnabled() || settings.getSharding().isEnabled()) {
+                continue;
+            }
+            try {
+                evaluate(flow.getName(), settings);
+            } catch (Exception e) {
+                logger.warn("Autoscaling evaluation failed for flow {}", flow.getName(), e);
+            }
+        }
+    }
+
+    private void evaluate(String flow, FlowSettings settings) {
+        // Containers ainda não iniciados (startup) ou parados manualmente ficam fora do ajuste
+        if (!(listenerEndpointRegistry.getListenerContainer(RabbitListenerConfig.consumerId(flow))
+                instanceof SimpleMessageListenerContainer container) || !container.isRunning()) {
+            return;
+        }
+        if (!(container.getMessageListener() instanceof MessageFlowListener<?> listener)) {
+            return;
+        }
+
+        FlowAutoscalingSettings bounds = settings.getAutoscaling();
+        FlowScaling state = flows.get(flow);
+        if (state == null) {
+            // Primeira leitura: alinha o container aos limites e usa o intervalo seguinte como base de medição
+            int consumers = clamp(settings.getConcurrency() != null ? settings.getConcurrency() : bounds.getMinConsumers(),
+                    bounds.getMinConsumers(), bounds.getMaxConsumers());
+            int prefetch = clamp(settings.getPrefetch() != null ? settings.getPrefetch() : bounds.getMinPrefetch(),
+                    bounds.getMinPrefetch(), bounds.getMaxPrefetch());
+            state = new FlowScaling(flow, consumers, prefetch, listener, meterRegistry);
+            flows.put(flow, state);
+            applyConsumers(container, consumers);
+            container.setPrefetchCount(prefetch);
+            return;
+        }
+
+        Long depthReading = rabbitTemplate.execute(channel -> channel.messageCount(settings.getName()));
+        long depth = depthReading != null ? depthReading : 0;
+
+        long now = System.nanoTime();
+        long processed = listener.getProcessedMessages();
+        long busyNanos = listener.getBusyNanos();
+        long elapsedNanos = now - state.sampledAt;
+        long processedDelta = processed - state.processed;
+        long busyDelta = busyNanos - state.busyNanos;
+        state.sampledAt = now;
+        state.processed = processed;
+        state.busyNanos = busyNanos;
+
+        // Utilização: fração do tempo dos consumidores gasta processando; latência: tempo médio por mensagem
+        double utilization = elapsedNanos > 0 ? (double) busyDelta / ((double) elapsedNanos * state.consumers) : 0;
+        long latencyNanos = processedDelta > 0 ? busyDelta / processedDelta : 0;
+        state.utilization = utilization;
+
+        int consumers = state.consumers;
+        int targetConsumers = consumers;
+        if (depth > consumers * backlogPerConsumer) {
+            // Backlog acumulando: só adiciona consumidores enquanto a latência mostra que o downstream absorve a carga
+            if (latencyNanos <= maxLatencyNanos) {
+                targetConsumers = consumers + Math.max(1, consumers / 2);
+            }
+        } else if (depth < consumers && utilization < scaleDownUtilization) {
+            // Fila vazia e consumidores ociosos: reduz um a um para não oscilar
+            targetConsumers = consumers - 1;
+        }
+        targetConsumers = clamp(targetConsumers, bounds.getMinConsumers(), bounds.getMaxConsumers());
+
+        // Backlog profundo favorece prefetch alto (menos idas ao broker); fila rasa, prefetch baixo e distribuição justa
+        int targetPrefetch = (int) Math.min(bounds.getMaxPrefetch(),
+                Math.max(bounds.getMinPrefetch(), depth / targetConsumers));
+
+        if (targetConsumers == consumers && targetPrefetch == state.prefetch) {
+            return;
+        }
+
+        ListenerScalingEvent event = new ListenerScalingEvent(flow, consumers, targetConsumers, state.prefetch,
+                targetPrefetch, depth, utilization, latencyNanos / 1_000_000.0);
+        if (targetConsumers != consumers) {
+            applyConsumers(container, targetConsumers);
+            (targetConsumers > consumers ? state.scaleUps : state.scaleDowns).increment();
+            state.consumers = targetConsumers;
+        }
+        if (targetPrefetch != state.prefetch) {
+            // Vale para os consumidores criados a partir de agora; os existentes mantêm o prefetch anterior
+            container.setPrefetchCount(targetPrefetch);
+            state.prefetchChanges.increment();
+            state.prefetch = targetPrefetch;
+        }
+
+        logger.info("Listener autoscaling decision: {}", event);
+        eventPublisher.publishEvent(event);
+    }
+
+    // O container exige concurrent <= max em cada chamada: o teto é liberado antes e fixado no alvo depois
+    private void applyConsumers(SimpleMessageListenerContainer container, int target) {
+        container.setMaxConcurrentConsumers(Integer.MAX_VALUE);
+        container.setConcurrentConsumers(target);
+        container.setMaxConcurrentConsumers(target);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static final class FlowScaling {
+        private final Counter scaleUps;
+        private final Counter scaleDowns;
+        private final Counter prefetchChanges;
+        private volatile int consumers;
+        private volatile int prefetch;
+        private volatile double utilization;
+        private long sampledAt;
+        private long processed;
+        private long busyNanos;
+
+        private FlowScaling(String flow, int consumers, int prefetch, MessageFlowListener<?> listener,
+                            MeterRegistry meterRegistry) {
+            this.consumers = consumers;
+            this.prefetch = prefetch;
+            this.sampledAt = System.nanoTime();
+            this.processed = listener.getProcessedMessages();
+            this.busyNanos = listener.getBusyNanos();
+
+            this.scaleUps = Counter.builder("listener.autoscaling.decisions")
+                    .tag("flow", flow).tag("action", "scale_up").register(meterRegistry);
+            this.scaleDowns = Counter.builder("listener.autoscaling.decisions")
+                    .tag("flow", flow).tag("action", "scale_down").register(meterRegistry);
+            this.prefetchChanges = Counter.builder("listener.autoscaling.decisions")
+                    .tag("flow", flow).tag("action", "prefetch").register(meterRegistry);
+            Gauge.builder("listener.consumers", this, state -> state.consumers)
+                    .tag("flow", flow).description("Consumers set by the autoscaler").register(meterRegistry);
+            Gauge.builder("listener.prefetch", this, state -> state.prefetch)
+                    .tag("flow", flow).description("Prefetch set by the autoscaler").register(meterRegistry);
+            Gauge.builder("listener.utilization", this, state -> state.utilization)
+                    .tag("flow", flow).description("Busy fraction of the flow consumers").register(meterRegistry);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package br.com.suit.DLQ.driven.messaging.autoscaling;
+
+// Publicado a cada ajuste de consumidores ou prefetch, com as leituras que motivaram a decisão
+public class ListenerScalingEvent {
+
+    private final String flow;
+    private final int previousConsumers;
+    private final int consumers;
+    private final int previousPrefetch;
+    private final int prefetch;
+    private final long queueDepth;
+    private final double utilization;
+    private final double latencyMillis;
+
+    public ListenerScalingEvent(String flow, int previousConsumers, int consumers, int previousPrefetch, int prefetch,
+                                long queueDepth, double utilization, double latencyMillis) {
+        this.flow = flow;
+        this.previousConsumers = previousConsumers;
+        this.consumers = consumers;
+        this.previousPrefetch = previousPrefetch;
+        this.prefetch = prefetch;
+        this.queueDepth = queueDepth;
+        this.utilization = utilization;
+        this.latencyMillis = latencyMillis;
+    }
+
+    public String getFlow() {
+        return flow;
+    }
+
+    public int getPreviousConsumers() {
+        return previousConsumers;
+    }
+
+    public int getConsumers() {
+        return consumers;
+    }
+
+    public int getPreviousPrefetch() {
+        return previousPrefetch;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerScalingEvent{" +
+                "flow='" + flow + '\'' +
+                ", consumers=" + previousConsumers + "->" + consumers +
+                ", prefetch=" + previousPrefetch + "->" + prefetch +
+                ", queueDepth=" + queueDepth +
+                ", utilization=" + String.format("%.2f", utilization) +
+                ", latencyMillis=" + String.format("%.2f", latencyMillis) +
+                '}';
+    }
+}
\ No newline at end of file
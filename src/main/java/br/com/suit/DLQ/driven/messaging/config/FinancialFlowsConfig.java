@@ -0,0 +1,31 @@
+package br.com.suit.DLQ.driven.messaging.config;
+
+import br.com.suit.DLQ.application.commands.RecordExpense;
+import br.com.suit.DLQ.application.commands.RecordIncome;
+import br.com.suit.DLQ.application.ports.inbound.ExpenseProcessingUseCase;
+import br.com.suit.DLQ.application.ports.inbound.IncomeProcessingUseCase;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Novo fluxo: um bean MessageFlow ligando o comando ao caso de uso, mais sua entrada em rabbitmq.queues
+@Configuration
+public class FinancialFlowsConfig {
+
+    public static final String EXPENSE_FLOW = "expense";
+    public static final String INCOME_FLOW = "income";
+
+    @Bean
+    public MessageFlow<RecordExpense> expenseFlow(ExpenseProcessingUseCase expenseProcessingUseCase) {
+        return new MessageFlow<>(EXPENSE_FLOW, "EXPENSE", RecordExpense.class, "category",
+                RecordExpense::getId, RecordExpense::getCategory,
+                expenseProcessingUseCase::processExpense, expenseProcessingUseCase::processExpenses);
+    }
+
+    @Bean
+    public MessageFlow<RecordIncome> incomeFlow(IncomeProcessingUseCase incomeProcessingUseCase) {
+        return new MessageFlow<>(INCOME_FLOW, "INCOME", RecordIncome.class, "source",
+                RecordIncome::getId, RecordIncome::getSource,
+                incomeProcessingUseCase::processIncome, incomeProcessingUseCase::processIncomes);
+    }
+}
\ No newline at end of file
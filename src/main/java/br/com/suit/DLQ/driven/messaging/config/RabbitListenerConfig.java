@@ -0,0 +1,179 @@
+package br.com.suit.DLQ.driven.messaging.config;
+
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.analytics.DlqFailureAnalytics;
+import br.com.suit.DLQ.driven.messaging.converter.FinancialMessageConverter;
+import br.com.suit.DLQ.driven.messaging.flow.DlqMonitorListener;
+import br.com.suit.DLQ.driven.messaging.flow.FlowPrioritySettings;
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowListener;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.flow.PriorityLanes;
+import br.com.suit.DLQ.driven.messaging.flow.ShardedQueues;
+import br.com.suit.DLQ.driven.messaging.retry.RetryRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+// Consumidores do transporte RabbitMQ; no transporte em memória o papel é do InMemoryFlowConsumers
+@Configuration
+@ConditionalOnProperty(name = "processing.transport.type", havingValue = "rabbitmq", matchIfMissing = true)
+public class RabbitListenerConfig implements RabbitListenerConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RabbitListenerConfig.class);
+
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final RetryRouter retryRouter;
+    private final FinancialMessageConverter messageConverter;
+    private final PipelineMetrics pipelineMetrics;
+    private final DlqFailureAnalytics dlqFailureAnalytics;
+    private final SimpleRabbitListenerContainerFactoryConfigurer configurer;
+    private final ConnectionFactory connectionFactory;
+
+    public RabbitListenerConfig(MessageFlowRegistry messageFlowRegistry,
+                                RetryRouter retryRouter,
+                                FinancialMessageConverter messageConverter,
+                                PipelineMetrics pipelineMetrics,
+                                DlqFailureAnalytics dlqFailureAnalytics,
+                                SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                                ConnectionFactory connectionFactory) {
+        this.messageFlowRegistry = messageFlowRegistry;
+        this.retryRouter = retryRouter;
+        this.messageConverter = messageConverter;
+        this.pipelineMetrics = pipelineMetrics;
+        this.dlqFailureAnalytics = dlqFailureAnalytics;
+        this.configurer = configurer;
+        this.connectionFactory = connectionFactory;
+    }
+
+    public static String consumerId(String flow) {
+        return flow + ".consumer";
+    }
+
+    public static String partitionConsumerId(String flow, int partition) {
+        return consumerId(flow) + "." + partition;
+    }
+
+    public static String priorityConsumerId(String flow) {
+        return flow + ".priority-consumer";
+    }
+
+    public static String dlqMonitorId(String flow) {
+        return flow + ".dlq-monitor";
+    }
+
+    // Um container por fluxo, cada um com sua própria concorrência, prefetch e lote
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            FlowSettings settings = messageFlowRegistry.settings(flow.getName());
+
+            MessageFlowListener<?> listener = new MessageFlowListener<>(flow, MessageLane.STANDARD, retryRouter,
+                    messageConverter, pipelineMetrics, settings.getMaxInFlight());
+            if (settings.getSharding().isEnabled()) {
+                registerPartitionConsumers(registrar, flow, settings, listener);
+            } else {
+                SimpleRabbitListenerEndpoint consumer = new SimpleRabbitListenerEndpoint();
+                consumer.setId(consumerId(flow.getName()));
+                consumer.setQueueNames(settings.getName());
+                consumer.setBatchListener(settings.getBatch().isEnabled());
+                consumer.setMessageListener(listener);
+                registrar.registerEndpoint(consumer, containerFactory(settings));
+            }
+            if (settings.getPriority().isEnabled()) {
+                registerPriorityConsumer(registrar, flow, settings);
+            }
+
+            SimpleRabbitListenerEndpoint dlqMonitor = new SimpleRabbitListenerEndpoint();
+            dlqMonitor.setId(dlqMonitorId(flow.getName()));
+            dlqMonitor.setQueueNames(settings.getDlqMonitor());
+            dlqMonitor.setMessageListener(new DlqMonitorListener(flow, dlqFailureAnalytics));
+            registrar.registerEndpoint(dlqMonitor);
+
+            logger.info("Flow {} listening on {} (concurrency {}, prefetch {}, batch {})", flow.getName(),
+                    settings.getName(), settings.getConcurrency(), settings.getPrefetch(),
+                    settings.getBatch().isEnabled() ? settings.getBatch().getSize() : "disabled");
+        }
+    }
+
+    // Um container de consumidor único por partição reivindicada: a ordem por chave vale dentro da partição
+    private void registerPartitionConsumers(RabbitListenerEndpointRegistrar registrar, MessageFlow<?> flow,
+                                            FlowSettings settings, MessageFlowListener<?> listener) {
+        List<Integer> partitions = messageFlowRegistry.claimedPartitions(flow.getName());
+        if (partitions.isEmpty()) {
+            logger.warn("Flow {} has {} partitions and none is claimed by this instance", flow.getName(),
+                    settings.getSharding().getPartitions());
+        }
+
+        SimpleRabbitListenerContainerFactory factory = containerFactory(settings);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        for (int partition : partitions) {
+            SimpleRabbitListenerEndpoint consumer = new SimpleRabbitListenerEndpoint();
+            consumer.setId(partitionConsumerId(flow.getName(), partition));
+            consumer.setQueueNames(ShardedQueues.partitionQueueName(settings.getName(), partition));
+            consumer.setBatchListener(settings.getBatch().isEnabled());
+            consumer.setMessageListener(listener);
+            registrar.registerEndpoint(consumer, factory);
+        }
+        logger.info("Flow {} consuming partitions {} of {}", flow.getName(), partitions,
+                settings.getSharding().getPartitions());
+    }
+
+    // Container próprio da fila prioritária: consumidores fixos, prefetch baixo e sem lote, para que a latência
+    // não dependa do backlog da fila principal nem do autoscaler
+    private void registerPriorityConsumer(RabbitListenerEndpointRegistrar registrar, MessageFlow<?> flow,
+                                          FlowSettings settings) {
+        FlowPrioritySettings priority = settings.getPriority();
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(priority.getConcurrency());
+        factory.setMaxConcurrentConsumers(priority.getConcurrency());
+        factory.setPrefetchCount(priority.getPrefetch());
+
+        SimpleRabbitListenerEndpoint consumer = new SimpleRabbitListenerEndpoint();
+        consumer.setId(priorityConsumerId(flow.getName()));
+        consumer.setQueueNames(PriorityLanes.queueName(settings.getName()));
+        consumer.setMessageListener(new MessageFlowListener<>(flow, MessageLane.PRIORITY, retryRouter,
+                messageConverter, pipelineMetrics, settings.getMaxInFlight()));
+        registrar.registerEndpoint(consumer, factory);
+
+        logger.info("Flow {} priority lane listening on {} (concurrency {}, prefetch {})", flow.getName(),
+                PriorityLanes.queueName(settings.getName()), priority.getConcurrency(), priority.getPrefetch());
+    }
+
+    private SimpleRabbitListenerContainerFactory containerFactory(FlowSettings settings) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        // Valores ausentes no fluxo mantêm os de spring.rabbitmq.listener.simple
+        if (settings.getConcurrency() != null) {
+            factory.setConcurrentConsumers(settings.getConcurrency());
+        }
+        if (settings.getMaxConcurrency() != null) {
+            factory.setMaxConcurrentConsumers(settings.getMaxConcurrency());
+        }
+        if (settings.getPrefetch() != null) {
+            factory.setPrefetchCount(settings.getPrefetch());
+        }
+        if (settings.getBatch().isEnabled()) {
+            // Agrupa as mensagens no consumidor e entrega o lote inteiro ao listener
+            factory.setBatchListener(true);
+            factory.setConsumerBatchEnabled(true);
+            factory.setBatchSize(settings.getBatch().getSize());
+            factory.setReceiveTimeout(settings.getBatch().getReceiveTimeout());
+        }
+        return factory;
+    }
+}
\ No newline at end of file
@@ -1,100 +1,117 @@
 package br.com.suit.DLQ.driven.messaging.config;
 
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowProperties;
+import br.com.suit.DLQ.driven.messaging.flow.PriorityLanes;
+import br.com.suit.DLQ.driven.messaging.flow.ShardedQueues;
+import br.com.suit.DLQ.driven.messaging.retry.RetryTiers;
 import org.springframework.amqp.core.*;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
+@EnableConfigurationProperties(MessageFlowProperties.class)
 public class RabbitMQConfig {
 
-    // Expense Queue Configuration
-    @Value("${rabbitmq.queues.expense.name}")
-    private String expenseQueueName;
-    
-    @Value("${rabbitmq.queues.expense.dlq}")
-    private String expenseDlqName;
-    
-    @Value("${rabbitmq.queues.expense.exchange}")
-    private String expenseExchangeName;
-    
-    @Value("${rabbitmq.queues.expense.routing-key}")
-    private String expenseRoutingKey;
-    
-    @Value("${rabbitmq.queues.expense.dlq-routing-key}")
-    private String expenseDlqRoutingKey;
-
-    // Income Queue Configuration
-    @Value("${rabbitmq.queues.income.name}")
-    private String incomeQueueName;
-    
-    @Value("${rabbitmq.queues.income.dlq}")
-    private String incomeDlqName;
-    
-    @Value("${rabbitmq.queues.income.exchange}")
-    private String incomeExchangeName;
-    
-    @Value("${rabbitmq.queues.income.routing-key}")
-    private String incomeRoutingKey;
-    
-    @Value("${rabbitmq.queues.income.dlq-routing-key}")
-    private String incomeDlqRoutingKey;
-
-    // Expense Exchange and Queues
+    // Topologia de todos os fluxos em rabbitmq.queues: exchange, fila principal, DLQ, monitor, retry tiers
+    // e, com priority.enabled, a fila prioritária
     @Bean
-    public DirectExchange expenseExchange() {
-        return new DirectExchange(expenseExchangeName, true, false);
+    public Declarables flowTopology(MessageFlowProperties messageFlowProperties) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (FlowSettings settings : messageFlowProperties.getQueues().values()) {
+            declarables.addAll(flowTopology(settings, messageFlowProperties.retryDelaysOf(settings)));
+        }
+        return new Declarables(declarables);
     }
 
-    @Bean
-    public Queue expenseQueue() {
-        return QueueBuilder.durable(expenseQueueName)
-                .withArgument("x-dead-letter-exchange", expenseExchangeName)
-                .withArgument("x-dead-letter-routing-key", expenseDlqRoutingKey)
-                .build();
-    }
+    private List<Declarable> flowTopology(FlowSettings settings, List<Long> retryDelays) {
+        DirectExchange exchange = new DirectExchange(settings.getExchange(), true, false);
 
-    @Bean
-    public Queue expenseDlq() {
-        return QueueBuilder.durable(expenseDlqName).build();
-    }
+        Queue dlq = QueueBuilder.durable(settings.getDlq()).build();
+        // Cópia da DLQ consumida pelo monitoramento, para que a DLQ principal retenha as mensagens para replay
+        Queue dlqMonitor = QueueBuilder.durable(settings.getDlqMonitor()).build();
 
-    @Bean
-    public Binding expenseBinding() {
-        return BindingBuilder.bind(expenseQueue()).to(expenseExchange()).with(expenseRoutingKey);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        declarables.add(dlq);
+        declarables.add(dlqMonitor);
+        if (settings.getSharding().isEnabled()) {
+            declarables.addAll(shardedTopology(settings, exchange));
+        } else {
+            Queue queue = mainQueue(settings.getName(), settings).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(settings.getRoutingKey()));
+        }
+        declarables.add(BindingBuilder.bind(dlq).to(exchange).with(settings.getDlqRoutingKey()));
+        declarables.add(BindingBuilder.bind(dlqMonitor).to(exchange).with(settings.getDlqRoutingKey()));
+        declarables.addAll(retryTopology(settings.getName(), settings.getRoutingKey(), settings, retryDelays));
+        if (settings.getPriority().isEnabled()) {
+            declarables.addAll(priorityTopology(settings, exchange, retryDelays));
+        }
+        return declarables;
     }
 
-    @Bean
-    public Binding expenseDlqBinding() {
-        return BindingBuilder.bind(expenseDlq()).to(expenseExchange()).with(expenseDlqRoutingKey);
-    }
+    // Faixa prioritária: fila separada na mesma exchange, com a mesma DLQ e retry tiers próprios que a devolvem
+    // a ela. Não é particionada nem passa pelo exchange x-consistent-hash
+    private List<Declarable> priorityTopology(FlowSettings settings, DirectExchange exchange, List<Long> retryDelays) {
+        String queueName = PriorityLanes.queueName(settings.getName());
+        String routingKey = PriorityLanes.routingKey(settings.getRoutingKey());
+        Queue priorityQueue = mainQueue(queueName, settings).build();
 
-    // Income Exchange and Queues
-    @Bean
-    public DirectExchange incomeExchange() {
-        return new DirectExchange(incomeExchangeName, true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(priorityQueue);
+        declarables.add(BindingBuilder.bind(priorityQueue).to(exchange).with(routingKey));
+        declarables.addAll(retryTopology(queueName, routingKey, settings, retryDelays));
+        return declarables;
     }
 
-    @Bean
-    public Queue incomeQueue() {
-        return QueueBuilder.durable(incomeQueueName)
-                .withArgument("x-dead-letter-exchange", incomeExchangeName)
-                .withArgument("x-dead-letter-routing-key", incomeDlqRoutingKey)
-                .build();
-    }
+    // Partições: a routing key principal leva a um exchange x-consistent-hash, que distribui pelo hash da chave.
+    // Publicação, retry tiers e replay continuam usando o exchange direto e não mudam com o particionamento
+    private List<Declarable> shardedTopology(FlowSettings settings, DirectExchange exchange) {
+        CustomExchange shardedExchange = new CustomExchange(ShardedQueues.exchangeName(settings.getExchange()),
+                "x-consistent-hash", true, false, Map.of("hash-header", ShardedQueues.SHARD_KEY_HEADER));
 
-    @Bean
-    public Queue incomeDlq() {
-        return QueueBuilder.durable(incomeDlqName).build();
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(shardedExchange);
+        declarables.add(BindingBuilder.bind(shardedExchange).to(exchange).with(settings.getRoutingKey()));
+        for (int partition = 0; partition < settings.getSharding().getPartitions(); partition++) {
+            // Single active consumer: uma partição tem um único consumidor ativo, preservando a ordem por chave
+            Queue partitionQueue = mainQueue(ShardedQueues.partitionQueueName(settings.getName(), partition), settings)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(partitionQueue);
+            // Peso igual para todas as partições
+            declarables.add(new Binding(partitionQueue.getName(), Binding.DestinationType.QUEUE,
+                    shardedExchange.getName(), "1", null));
+        }
+        return declarables;
     }
 
-    @Bean
-    public Binding incomeBinding() {
-        return BindingBuilder.bind(incomeQueue()).to(incomeExchange()).with(incomeRoutingKey);
+    private QueueBuilder mainQueue(String queueName, FlowSettings settings) {
+        return QueueBuilder.durable(queueName)
+                .withArgument("x-dead-letter-exchange", settings.getExchange())
+                .withArgument("x-dead-letter-routing-key", settings.getDlqRoutingKey());
     }
 
-    @Bean
-    public Binding incomeDlqBinding() {
-        return BindingBuilder.bind(incomeDlq()).to(incomeExchange()).with(incomeDlqRoutingKey);
+    // Retry Tiers: cada nível segura a mensagem pelo TTL e a devolve à fila de origem pela routing key
+    private List<Declarable> retryTopology(String queueName, String routingKey, FlowSettings settings,
+                                           List<Long> retryDelays) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int tier = 1; tier <= retryDelays.size(); tier++) {
+            Queue retryQueue = QueueBuilder.durable(RetryTiers.queueName(queueName, tier))
+                    .withArgument("x-message-ttl", retryDelays.get(tier - 1))
+                    .withArgument("x-dead-letter-exchange", settings.getExchange())
+                    .withArgument("x-dead-letter-routing-key", routingKey)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(new Binding(retryQueue.getName(), Binding.DestinationType.QUEUE,
+                    settings.getExchange(), RetryTiers.routingKey(routingKey, tier), null));
+        }
+        return declarables;
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package br.com.suit.DLQ.driven.messaging.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class FinancialMessageConverter implements MessageConverter {
+
+    private final ObjectMapper objectMapper;
+    // Readers e writers são imutáveis e thread-safe: criados na primeira mensagem de cada tipo e reutilizados,
+    // assim qualquer comando de fluxo registrado é atendido sem lista fixa de tipos
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public FinancialMessageConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        byte[] body;
+        if (object instanceof byte[] bytes) {
+            body = bytes;
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        } else if (object instanceof String text) {
+            body = text.getBytes(StandardCharsets.UTF_8);
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN);
+        } else {
+            // Serializa direto para bytes com os buffers reciclados do Jackson, sem String intermediária
+            body = write(object);
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        }
+        messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        byte[] body = message.getBody();
+        Type inferredType = message.getMessageProperties().getInferredArgumentType();
+
+        if (inferredType == String.class) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        if (inferredType instanceof Class<?> targetType && targetType != byte[].class
+                && targetType != Object.class) {
+            return read(body, targetType);
+        }
+        return body;
+    }
+
+    public <T> T read(byte[] body, Class<T> type) {
+        ObjectReader reader = readers.computeIfAbsent(type, objectMapper::readerFor);
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to deserialize " + type.getSimpleName() + " message", e);
+        }
+    }
+
+    public byte[] write(Object object) {
+        ObjectWriter writer = writers.computeIfAbsent(object.getClass(), objectMapper::writerFor);
+        try {
+            return writer.writeValueAsBytes(object);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to serialize " + object.getClass().getSimpleName(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import br.com.suit.DLQ.driven.messaging.analytics.DlqFailureAnalytics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+
+public class DlqMonitorListener implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DlqMonitorListener.class);
+
+    private final MessageFlow<?> flow;
+    private final DlqFailureAnalytics dlqFailureAnalytics;
+
+    public DlqMonitorListener(MessageFlow<?> flow, DlqFailureAnalytics dlqFailureAnalytics) {
+        this.flow = flow;
+        this.dlqFailureAnalytics = dlqFailureAnalytics;
+    }
+
+    @Override
+    public void onMessage(Message dlqMessage) {
+        // O volume da DLQ é acompanhado pela métrica dlq.failures; o log por mensagem fica só em debug
+        logger.debug("Received message in {} DLQ: {} bytes, headers {}", flow.getName(), dlqMessage.getBody().length,
+                dlqMessage.getMessageProperties().getHeaders());
+
+        try {
+            // Alimenta a análise de falhas por tipo de erro, grupo e tipo de mensagem
+            dlqFailureAnalytics.record(dlqMessage, flow.getGroupField());
+        } catch (Exception e) {
+            logger.error("Error processing {} DLQ message", flow.getName(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+// Limites dentro dos quais o autoscaler ajusta consumidores e prefetch do fluxo
+public class FlowAutoscalingSettings {
+
+    private boolean enabled;
+    private int minConsumers = 1;
+    private int maxConsumers = 16;
+    private int minPrefetch = 10;
+    private int maxPrefetch = 250;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMinConsumers() {
+        return minConsumers;
+    }
+
+    public void setMinConsumers(int minConsumers) {
+        this.minConsumers = minConsumers;
+    }
+
+    public int getMaxConsumers() {
+        return maxConsumers;
+    }
+
+    public void setMaxConsumers(int maxConsumers) {
+        this.maxConsumers = maxConsumers;
+    }
+
+    public int getMinPrefetch() {
+        return minPrefetch;
+    }
+
+    public void setMinPrefetch(int minPrefetch) {
+        this.minPrefetch = minPrefetch;
+    }
+
+    public int getMaxPrefetch() {
+        return maxPrefetch;
+    }
+
+    public void setMaxPrefetch(int maxPrefetch) {
+        this.maxPrefetch = maxPrefetch;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+public class FlowBatchSettings {
+
+    private boolean enabled;
+    private int size = 100;
+    private long receiveTimeout = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getReceiveTimeout() {
+        return receiveTimeout;
+    }
+
+    public void setReceiveTimeout(long receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+}
\ No newline at end of file
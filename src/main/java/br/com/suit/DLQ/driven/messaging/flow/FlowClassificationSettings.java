@@ -0,0 +1,57 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import br.com.suit.DLQ.application.domain.FailureClassification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FlowClassificationSettings {
+
+    // Usada quando nenhuma exceção da cadeia de causas corresponde às listas
+    private FailureClassification defaultClassification = FailureClassification.RETRYABLE;
+    private List<Class<? extends Throwable>> retryable = new ArrayList<>();
+    private List<Class<? extends Throwable>> nonRetryable = new ArrayList<>();
+    private List<Class<? extends Throwable>> discard = new ArrayList<>();
+    // Nome de um bean ExceptionClassifier que substitui as listas acima
+    private String classifier;
+
+    public FailureClassification getDefaultClassification() {
+        return defaultClassification;
+    }
+
+    public void setDefaultClassification(FailureClassification defaultClassification) {
+        this.defaultClassification = defaultClassification;
+    }
+
+    public List<Class<? extends Throwable>> getRetryable() {
+        return retryable;
+    }
+
+    public void setRetryable(List<Class<? extends Throwable>> retryable) {
+        this.retryable = retryable;
+    }
+
+    public List<Class<? extends Throwable>> getNonRetryable() {
+        return nonRetryable;
+    }
+
+    public void setNonRetryable(List<Class<? extends Throwable>> nonRetryable) {
+        this.nonRetryable = nonRetryable;
+    }
+
+    public List<Class<? extends Throwable>> getDiscard() {
+        return discard;
+    }
+
+    public void setDiscard(List<Class<? extends Throwable>> discard) {
+        this.discard = discard;
+    }
+
+    public String getClassifier() {
+        return classifier;
+    }
+
+    public void setClassifier(String classifier) {
+        this.classifier = classifier;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FlowPrioritySettings {
+
+    private boolean enabled;
+    // Valor a partir do qual a transação vai para a fila prioritária; vazio desativa o critério
+    private BigDecimal amountThreshold;
+    // Categorias (ou origens) sempre prioritárias, sem diferenciar maiúsculas
+    private List<String> groups = new ArrayList<>();
+    // Pool próprio de consumidores, independente do concurrency e do autoscaling da fila principal
+    private int concurrency = 2;
+    private int prefetch = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public BigDecimal getAmountThreshold() {
+        return amountThreshold;
+    }
+
+    public void setAmountThreshold(BigDecimal amountThreshold) {
+        this.amountThreshold = amountThreshold;
+    }
+
+    public List<String> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<String> groups) {
+        this.groups = groups;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FlowSettings {
+
+    private String name;
+    private String dlq;
+    private String dlqMonitor;
+    private String exchange;
+    private String routingKey;
+    private String dlqRoutingKey;
+    // Vazio não limita além do número de consumidores; só faz efeito abaixo do número de consumidores
+    private Integer maxInFlight;
+    // Vazios usam os valores globais de spring.rabbitmq.listener.simple
+    private Integer concurrency;
+    private Integer maxConcurrency;
+    private Integer prefetch;
+    private FlowBatchSettings batch = new FlowBatchSettings();
+    private FlowAutoscalingSettings autoscaling = new FlowAutoscalingSettings();
+    private FlowShardingSettings sharding = new FlowShardingSettings();
+    private FlowPrioritySettings priority = new FlowPrioritySettings();
+    // Vazio usa rabbitmq.retry.delays
+    private List<Long> retryDelays = new ArrayList<>();
+    // Vazio usa rabbitmq.classification
+    private FlowClassificationSettings classification;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDlq() {
+        return dlq;
+    }
+
+    public void setDlq(String dlq) {
+        this.dlq = dlq;
+    }
+
+    public String getDlqMonitor() {
+        return dlqMonitor;
+    }
+
+    public void setDlqMonitor(String dlqMonitor) {
+        this.dlqMonitor = dlqMonitor;
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public void setExchange(String exchange) {
+        this.exchange = exchange;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public void setRoutingKey(String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String getDlqRoutingKey() {
+        return dlqRoutingKey;
+    }
+
+    public void setDlqRoutingKey(String dlqRoutingKey) {
+        this.dlqRoutingKey = dlqRoutingKey;
+    }
+
+    public Integer getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(Integer maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(Integer prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public FlowBatchSettings getBatch() {
+        return batch;
+    }
+
+    public void setBatch(FlowBatchSettings batch) {
+        this.batch = batch;
+    }
+
+    public FlowAutoscalingSettings getAutoscaling() {
+        return autoscaling;
+    }
+
+    public void setAutoscaling(FlowAutoscalingSettings autoscaling) {
+        this.autoscaling = autoscaling;
+    }
+
+    public FlowShardingSettings getSharding() {
+        return sharding;
+    }
+
+    public void setSharding(FlowShardingSettings sharding) {
+        this.sharding = sharding;
+    }
+
+    public FlowPrioritySettings getPriority() {
+        return priority;
+    }
+
+    public void setPriority(FlowPrioritySettings priority) {
+        this.priority = priority;
+    }
+
+    public List<Long> getRetryDelays() {
+        return retryDelays;
+    }
+
+    public void setRetryDelays(List<Long> retryDelays) {
+        this.retryDelays = retryDelays;
+    }
+
+    public FlowClassificationSettings getClassification() {
+        return classification;
+    }
+
+    public void setClassification(FlowClassificationSettings classification) {
+        this.classification = classification;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+public class FlowShardingSettings {
+
+    private boolean enabled;
+    private int partitions = 4;
+    private ShardKeyType key = ShardKeyType.ID;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public ShardKeyType getKey() {
+        return key;
+    }
+
+    public void setKey(ShardKeyType key) {
+        this.key = key;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import br.com.suit.DLQ.application.domain.ProcessingFailure;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Parte tipada de um fluxo: comando esperado na fila e caso de uso que o processa
+public class MessageFlow<C> {
+
+    private final String name;
+    private final String messageType;
+    private final Class<C> commandType;
+    private final String groupField;
+    private final Function<C, String> idOf;
+    private final Function<C, String> groupOf;
+    private final Consumer<C> processor;
+    private final Function<List<C>, List<ProcessingFailure<C>>> batchProcessor;
+
+    public MessageFlow(String name, String messageType, Class<C> commandType, String groupField,
+                       Function<C, String> idOf, Function<C, String> groupOf,
+                       Consumer<C> processor, Function<List<C>, List<ProcessingFailure<C>>> batchProcessor) {
+        this.name = Objects.requireNonNull(name, "Flow name cannot be null");
+        this.messageType = Objects.requireNonNull(messageType, "Message type cannot be null");
+        this.commandType = Objects.requireNonNull(commandType, "Command type cannot be null");
+        this.groupField = Objects.requireNonNull(groupField, "Group field cannot be null");
+        this.idOf = Objects.requireNonNull(idOf, "Id extractor cannot be null");
+        this.groupOf = Objects.requireNonNull(groupOf, "Group extractor cannot be null");
+        this.processor = Objects.requireNonNull(processor, "Processor cannot be null");
+        this.batchProcessor = Objects.requireNonNull(batchProcessor, "Batch processor cannot be null");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMessageType() {
+        return messageType;
+    }
+
+    public Class<C> getCommandType() {
+        return commandType;
+    }
+
+    public String getGroupField() {
+        return groupField;
+    }
+
+    // Chave de particionamento do comando: o id espalha a carga, o grupo mantém a ordem por categoria/origem
+    public String shardKeyOf(Object command, ShardKeyType keyType) {
+        C typedCommand = commandType.cast(command);
+        String group = keyType == ShardKeyType.GROUP ? groupOf.apply(typedCommand) : null;
+        // Sem grupo a mensagem ainda precisa de uma chave para ser roteada a alguma partição
+        return group != null ? group : idOf.apply(typedCommand);
+    }
+
+    public void process(C command) {
+        processor.accept(command);
+    }
+
+    public List<ProcessingFailure<C>> processAll(List<C> commands) {
+        return batchProcessor.apply(commands);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import br.com.suit.DLQ.application.domain.FinancialProcessingException;
+import br.com.suit.DLQ.application.domain.ProcessingFailure;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.converter.FinancialMessageConverter;
+import br.com.suit.DLQ.driven.messaging.publisher.DeadLetterHeaders;
+import br.com.suit.DLQ.driven.messaging.retry.RetryRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Listener da fila principal de um fluxo, usado tanto no modo unitário quanto em lote
+public class MessageFlowListener<C> implements BatchMessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageFlowListener.class);
+
+    private final MessageFlow<C> flow;
+    private final MessageLane lane;
+    private final RetryRouter retryRouter;
+    private final FinancialMessageConverter messageConverter;
+    private final PipelineMetrics pipelineMetrics;
+    private final Semaphore inFlightPermits;
+    private final int maxInFlight;
+    // Atividade acumulada, lida pelo autoscaler para estimar utilização e latência dos consumidores
+    private final LongAdder processedMessages = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    public MessageFlowListener(MessageFlow<C> flow,
+                               MessageLane lane,
+                               RetryRouter retryRouter,
+                               FinancialMessageConverter messageConverter,
+                               PipelineMetrics pipelineMetrics,
+                               Integer maxInFlight) {
+        this.flow = flow;
+        this.lane = lane;
+        this.retryRouter = retryRouter;
+        this.messageConverter = messageConverter;
+        this.pipelineMetrics = pipelineMetrics;
+        // Limite de mensagens em processamento por fila, independente do número de threads; sem limite
+        // configurado o próprio número de consumidores é o limite e o semáforo seria só custo
+        this.inFlightPermits = maxInFlight != null ? new Semaphore(maxInFlight) : null;
+        this.maxInFlight = maxInFlight != null ? maxInFlight : Integer.MAX_VALUE;
+    }
+
+    public long getProcessedMessages() {
+        return processedMessages.sum();
+    }
+
+    public long getBusyNanos() {
+        return busyNanos.sum();
+    }
+
+    @Override
+    public void onMessage(Message amqpMessage) {
+        long startedAt = System.nanoTime();
+        byte[] message = amqpMessage.getBody();
+        logger.debug("Received {} message with {} bytes", flow.getName(), message.length);
+
+        acquirePermits(1);
+        try {
+            // Deserializar mensagem para comando
+            C command = pipelineMetrics.time(PipelineMetrics.Stage.DESERIALIZE, flow.getMessageType(),
+                    () -> messageConverter.read(message, flow.getCommandType()));
+
+            // Processar através do caso de uso
+            flow.process(command);
+            recordLaneLatency(amqpMessage);
+
+            logger.debug("{} message processed successfully", flow.getName());
+
+        } catch (FinancialProcessingException e) {
+            logger.error("Business logic error processing {} message", flow.getName(), e);
+            retryRouter.route(flow.getName(), amqpMessage, e);
+
+        } catch (Exception e) {
+            logger.error("Unexpected error processing {} message", flow.getName(), e);
+            retryRouter.route(flow.getName(), amqpMessage, e);
+
+        } finally {
+            releasePermits(1);
+            processedMessages.increment();
+            busyNanos.add(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    public void onMessageBatch(List<Message> messages) {
+        long startedAt = System.nanoTime();
+        try {
+            processBatch(messages);
+        } finally {
+            processedMessages.add(messages.size());
+            busyNanos.add(System.nanoTime() - startedAt);
+        }
+    }
+
+    private void processBatch(List<Message> messages) {
+        logger.debug("Received {} batch with {} messages", flow.getName(), messages.size());
+
+        // Mantém a mensagem original de cada comando para reencaminhar apenas as falhas
+        Map<C, Message> originalMessages = new IdentityHashMap<>(messages.size());
+        List<C> commands = new ArrayList<>(messages.size());
+
+        for (Message amqpMessage : messages) {
+            byte[] message = amqpMessage.getBody();
+            try {
+                C command = pipelineMetrics.time(PipelineMetrics.Stage.DESERIALIZE, flow.getMessageType(),
+                        () -> messageConverter.read(message, flow.getCommandType()));
+                originalMessages.put(command, amqpMessage);
+                commands.add(command);
+            } catch (Exception e) {
+                logger.error("Unexpected error deserializing {} message in batch", flow.getName(), e);
+                retryRouter.route(flow.getName(), amqpMessage, e);
+            }
+        }
+
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        // Um lote consome tantas permissões quanto mensagens, limitado ao máximo configurado
+        int permits = Math.min(commands.size(), maxInFlight);
+        acquirePermits(permits);
+        List<ProcessingFailure<C>> failures;
+        try {
+            failures = flow.processAll(commands);
+        } finally {
+            releasePermits(permits);
+        }
+
+        Set<C> failed = Collections.newSetFromMap(new IdentityHashMap<>(failures.size()));
+        for (ProcessingFailure<C> failure : failures) {
+            failed.add(failure.getCommand());
+            retryRouter.route(flow.getName(), originalMessages.get(failure.getCommand()), failure.getException());
+        }
+        for (C command : commands) {
+            if (!failed.contains(command)) {
+                recordLaneLatency(originalMessages.get(command));
+            }
+        }
+
+        logger.debug("{} batch processed: {} succeeded, {} routed to retry or DLQ", flow.getName(),
+                commands.size() - failures.size(), messages.size() - commands.size() + failures.size());
+    }
+
+    private void acquirePermits(int permits) {
+        if (inFlightPermits != null) {
+            inFlightPermits.acquireUninterruptibly(permits);
+        }
+    }
+
+    private void releasePermits(int permits) {
+        if (inFlightPermits != null) {
+            inFlightPermits.release(permits);
+        }
+    }
+
+    // Só a primeira entrega: o atraso dos retry tiers distorceria a latência da faixa, e o replay não traz o header
+    private void recordLaneLatency(Message amqpMessage) {
+        Object publishedAt = amqpMessage.getMessageProperties().getHeader(PriorityLanes.PUBLISHED_AT_HEADER);
+        if (!(publishedAt instanceof Number timestamp)
+                || amqpMessage.getMessageProperties().getHeader(DeadLetterHeaders.RETRY_COUNT) != null) {
+            return;
+        }
+        long latencyMillis = Math.max(0, System.currentTimeMillis() - timestamp.longValue());
+        pipelineMetrics.recordLaneLatency(flow.getMessageType(), lane.getTagValue(),
+                TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    }
+}
\ No newline at end of file
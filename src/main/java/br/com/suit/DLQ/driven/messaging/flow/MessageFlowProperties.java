@@ -0,0 +1,94 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Um fluxo por entrada em rabbitmq.queues: topologia, listeners e retentativas derivam daqui
+@ConfigurationProperties(prefix = "rabbitmq")
+public class MessageFlowProperties {
+
+    private Map<String, FlowSettings> queues = new LinkedHashMap<>();
+    private Retry retry = new Retry();
+    private FlowClassificationSettings classification = new FlowClassificationSettings();
+    private Sharding sharding = new Sharding();
+
+    public Map<String, FlowSettings> getQueues() {
+        return queues;
+    }
+
+    public void setQueues(Map<String, FlowSettings> queues) {
+        this.queues = queues;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public FlowClassificationSettings getClassification() {
+        return classification;
+    }
+
+    public void setClassification(FlowClassificationSettings classification) {
+        this.classification = classification;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    public void setSharding(Sharding sharding) {
+        this.sharding = sharding;
+    }
+
+    public List<Long> retryDelaysOf(FlowSettings settings) {
+        return settings.getRetryDelays().isEmpty() ? retry.getDelays() : settings.getRetryDelays();
+    }
+
+    public FlowClassificationSettings classificationOf(FlowSettings settings) {
+        return settings.getClassification() != null ? settings.getClassification() : classification;
+    }
+
+    public static class Retry {
+
+        private List<Long> delays = new ArrayList<>();
+
+        public List<Long> getDelays() {
+            return delays;
+        }
+
+        public void setDelays(List<Long> delays) {
+            this.delays = delays;
+        }
+    }
+
+    // Posição desta instância entre as que consomem os fluxos particionados
+    public static class Sharding {
+
+        private int instanceIndex;
+        private int instanceCount = 1;
+
+        public int getInstanceIndex() {
+            return instanceIndex;
+        }
+
+        public void setInstanceIndex(int instanceIndex) {
+            this.instanceIndex = instanceIndex;
+        }
+
+        public int getInstanceCount() {
+            return instanceCount;
+        }
+
+        public void setInstanceCount(int instanceCount) {
+            this.instanceCount = instanceCount;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class MessageFlowRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageFlowRegistry.class);
+
+    private final Map<String, MessageFlow<?>> flows = new LinkedHashMap<>();
+    private final MessageFlowProperties properties;
+
+    public MessageFlowRegistry(List<MessageFlow<?>> flows, MessageFlowProperties properties) {
+        this.properties = properties;
+        for (MessageFlow<?> flow : flows) {
+            // Falha no startup: um fluxo sem filas configuradas nunca receberia mensagens
+            if (!properties.getQueues().containsKey(flow.getName())) {
+                throw new IllegalStateException("No rabbitmq.queues." + flow.getName() + " settings for flow " + flow.getName());
+            }
+            if (this.flows.putIfAbsent(flow.getName(), flow) != null) {
+                throw new IllegalStateException("Duplicate message flow: " + flow.getName());
+            }
+            FlowShardingSettings sharding = properties.getQueues().get(flow.getName()).getSharding();
+            if (sharding.isEnabled() && sharding.getPartitions() < 1) {
+                throw new IllegalStateException("Flow " + flow.getName() + " must have at least one partition");
+            }
+            FlowPrioritySettings priority = properties.getQueues().get(flow.getName()).getPriority();
+            if (priority.isEnabled() && priority.getConcurrency() < 1) {
+                throw new IllegalStateException("Flow " + flow.getName() + " must have at least one priority consumer");
+            }
+        }
+        // No sentido inverso: uma entrada em rabbitmq.queues sem MessageFlow declararia filas que ninguém consome
+        for (String configured : properties.getQueues().keySet()) {
+            if (!this.flows.containsKey(configured)) {
+                throw new IllegalStateException("No MessageFlow bean for rabbitmq.queues." + configured);
+            }
+        }
+        MessageFlowProperties.Sharding instance = properties.getSharding();
+        if (instance.getInstanceCount() < 1 || instance.getInstanceIndex() < 0
+                || instance.getInstanceIndex() >= instance.getInstanceCount()) {
+            throw new IllegalStateException("Invalid sharding instance " + instance.getInstanceIndex() + " of "
+                    + instance.getInstanceCount());
+        }
+        logger.info("Message flows registered: {}", this.flows.keySet());
+    }
+
+    public Collection<MessageFlow<?>> flows() {
+        return flows.values();
+    }
+
+    public MessageFlow<?> flow(String name) {
+        MessageFlow<?> flow = flows.get(name);
+        if (flow == null) {
+            throw new IllegalArgumentException("Unknown message flow: " + name);
+        }
+        return flow;
+    }
+
+    public FlowSettings settings(String name) {
+        flow(name);
+        return properties.getQueues().get(name);
+    }
+
+    public List<Long> retryDelays(String name) {
+        return properties.retryDelaysOf(settings(name));
+    }
+
+    public FlowClassificationSettings classification(String name) {
+        return properties.classificationOf(settings(name));
+    }
+
+    // Partições consumidas por esta instância: p % instance-count == instance-index
+    public List<Integer> claimedPartitions(String name) {
+        FlowShardingSettings sharding = settings(name).getSharding();
+        MessageFlowProperties.Sharding instance = properties.getSharding();
+        List<Integer> partitions = new ArrayList<>();
+        for (int partition = instance.getInstanceIndex(); partition < sharding.getPartitions();
+             partition += instance.getInstanceCount()) {
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
+    // Regra da faixa: valor acima do limite ou grupo listado vai para a fila prioritária do fluxo
+    public MessageLane lane(String name, BigDecimal amount, String group) {
+        FlowPrioritySettings priority = settings(name).getPriority();
+        if (!priority.isEnabled()) {
+            return MessageLane.STANDARD;
+        }
+        if (priority.getAmountThreshold() != null && amount != null
+                && amount.compareTo(priority.getAmountThreshold()) >= 0) {
+            return MessageLane.PRIORITY;
+        }
+        if (group != null) {
+            for (String priorityGroup : priority.getGroups()) {
+                if (group.equalsIgnoreCase(priorityGroup.trim())) {
+                    return MessageLane.PRIORITY;
+                }
+            }
+        }
+        return MessageLane.STANDARD;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+public enum MessageLane {
+    STANDARD("standard"),
+    PRIORITY("priority");
+
+    private final String tagValue;
+
+    MessageLane(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+}
\ No newline at end of file
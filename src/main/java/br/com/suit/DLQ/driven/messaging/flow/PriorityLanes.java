@@ -0,0 +1,34 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+import org.springframework.amqp.core.MessageProperties;
+
+public final class PriorityLanes {
+
+    // Faixa da mensagem, preservada nos retry tiers para que a retentativa volte à mesma fila
+    public static final String LANE_HEADER = "x-lane";
+    // Instante da publicação (epoch ms), base da latência por faixa medida no consumidor
+    public static final String PUBLISHED_AT_HEADER = "x-published-at";
+
+    private static final String PRIORITY_SUFFIX = ".priority";
+
+    private PriorityLanes() {
+    }
+
+    public static String queueName(String queueName) {
+        return queueName + PRIORITY_SUFFIX;
+    }
+
+    public static String routingKey(String routingKey) {
+        return routingKey + PRIORITY_SUFFIX;
+    }
+
+    public static void stamp(MessageProperties properties, MessageLane lane) {
+        properties.setHeader(LANE_HEADER, lane.getTagValue());
+        properties.setHeader(PUBLISHED_AT_HEADER, System.currentTimeMillis());
+    }
+
+    public static MessageLane laneOf(MessageProperties properties) {
+        Object lane = properties.getHeader(LANE_HEADER);
+        return MessageLane.PRIORITY.getTagValue().equals(lane) ? MessageLane.PRIORITY : MessageLane.STANDARD;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+public enum ShardKeyType {
+    ID,
+    GROUP
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package br.com.suit.DLQ.driven.messaging.flow;
+
+public final class ShardedQueues {
+
+    // Header com a chave de particionamento, lido pelo exchange x-consistent-hash (hash-header)
+    public static final String SHARD_KEY_HEADER = "x-shard-key";
+
+    private static final String PARTITION_SUFFIX = ".partition.";
+    private static final String SHARDED_EXCHANGE_SUFFIX = ".sharded";
+
+    private ShardedQueues() {
+    }
+
+    public static String partitionQueueName(String queueName, int partition) {
+        return queueName + PARTITION_SUFFIX + partition;
+    }
+
+    public static String exchangeName(String exchangeName) {
+        return exchangeName + SHARDED_EXCHANGE_SUFFIX;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package br.com.suit.DLQ.driven.messaging.publisher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ConfirmedMessagePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfirmedMessagePublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Semaphore inFlightWindow;
+
+    @Value("${rabbitmq.publisher.confirm-timeout}")
+    private long confirmTimeout;
+
+    @Value("${rabbitmq.publisher.acquire-timeout}")
+    private long acquireTimeout;
+
+    public ConfirmedMessagePublisher(RabbitTemplate rabbitTemplate,
+                                     @Value("${rabbitmq.publisher.max-in-flight}") int maxInFlight) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.inFlightWindow = new Semaphore(maxInFlight);
+        this.rabbitTemplate.setReturnsCallback(this::logReturnedMessage);
+    }
+
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object message) {
+        return publish(exchange, routingKey, message, amqpMessage -> amqpMessage);
+    }
+
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object message,
+                                           MessagePostProcessor postProcessor) {
+        // Janela limitada de publicações aguardando confirmação do broker
+        if (!acquireWindowSlot()) {
+            return CompletableFuture.failedFuture(
+                    new MessagePublishException("Publisher in-flight window is full for exchange: " + exchange));
+        }
+
+        CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
+        try {
+            rabbitTemplate.convertAndSend(exchange, routingKey, message, postProcessor, correlationData);
+        } catch (Exception e) {
+            inFlightWindow.release();
+            return CompletableFuture.failedFuture(
+                    new MessagePublishException("Failed to publish message to exchange: " + exchange, e));
+        }
+
+        return correlationData.getFuture()
+                .orTimeout(confirmTimeout, TimeUnit.MILLISECONDS)
+                .thenAccept(confirm -> {
+                    if (!confirm.isAck()) {
+                        throw new MessagePublishException("Message rejected by broker: " + confirm.getReason());
+                    }
+                    ReturnedMessage returned = correlationData.getReturned();
+                    if (returned != null) {
+                        throw new MessagePublishException("Message returned as unroutable: " + returned.getReplyText());
+                    }
+                })
+                .whenComplete((ignored, error) -> inFlightWindow.release());
+    }
+
+    // Publicação síncrona de retry e DLQ: o listener só confirma a mensagem de origem depois do ack do broker,
+    // e uma falha (nack, devolução ou timeout) sobe como exceção para que a mensagem volte à fila
+    public void publishAndAwait(String exchange, String routingKey, Message message) {
+        try {
+            publish(exchange, routingKey, message).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MessagePublishException publishException) {
+                throw publishException;
+            }
+            throw new MessagePublishException("Message not confirmed by broker for exchange: " + exchange,
+                    e.getCause());
+        }
+    }
+
+    public int availableWindowSlots() {
+        return inFlightWindow.availablePermits();
+    }
+
+    private boolean acquireWindowSlot() {
+        try {
+            return inFlightWindow.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void logReturnedMessage(ReturnedMessage returned) {
+        logger.warn("Message returned by broker: exchange={}, routingKey={}, replyCode={}, replyText={}",
+                returned.getExchange(), returned.getRoutingKey(), returned.getReplyCode(), returned.getReplyText());
+    }
+}
\ No newline at end of file
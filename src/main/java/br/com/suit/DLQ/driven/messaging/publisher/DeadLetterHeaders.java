@@ -0,0 +1,14 @@
+package br.com.suit.DLQ.driven.messaging.publisher;
+
+public final class DeadLetterHeaders {
+
+    public static final String ERROR_TYPE = "x-error-type";
+    public static final String ERROR_MESSAGE = "x-error-message";
+    public static final String MESSAGE_TYPE = "x-message-type";
+    public static final String FAILED_AT = "x-failed-at";
+    public static final String RETRY_COUNT = "x-retry-count";
+    public static final String CLASSIFICATION = "x-failure-classification";
+
+    private DeadLetterHeaders() {
+    }
+}
\ No newline at end of file
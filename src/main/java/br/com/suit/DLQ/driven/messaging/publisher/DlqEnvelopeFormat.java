@@ -0,0 +1,8 @@
+package br.com.suit.DLQ.driven.messaging.publisher;
+
+public enum DlqEnvelopeFormat {
+    // Mensagem original embutida como string em um JSON com os dados do erro
+    JSON,
+    // Corpo original encaminhado sem alteração, dados do erro em headers AMQP
+    HEADERS
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package br.com.suit.DLQ.driven.messaging.publisher;
+
+public class MessagePublishException extends RuntimeException {
+
+    public MessagePublishException(String message) {
+        super(message);
+    }
+
+    public MessagePublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package br.com.suit.DLQ.driven.messaging.publisher;
+
+import br.com.suit.DLQ.application.domain.FailureClassification;
+import br.com.suit.DLQ.application.ports.outbound.DeadLetterQueuePublisher;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class TransportDeadLetterQueuePublisher implements DeadLetterQueuePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransportDeadLetterQueuePublisher.class);
+
+    private static final int MAX_ERROR_MESSAGE_HEADER_LENGTH = 512;
+
+    private final MessageTransport messageTransport;
+    private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final DlqEnvelopeFormat envelopeFormat;
+
+    public TransportDeadLetterQueuePublisher(MessageTransport messageTransport, ObjectMapper objectMapper,
+                                             PipelineMetrics pipelineMetrics, MessageFlowRegistry messageFlowRegistry,
+                                             @Value("${rabbitmq.dlq.envelope}") DlqEnvelopeFormat envelopeFormat) {
+        this.messageTransport = messageTransport;
+        this.objectMapper = objectMapper;
+        this.pipelineMetrics = pipelineMetrics;
+        this.messageFlowRegistry = messageFlowRegistry;
+        this.envelopeFormat = envelopeFormat;
+    }
+
+    @Override
+    public void publishToDlq(String flow, byte[] message, Exception exception, int retryCount,
+                             FailureClassification classification) {
+        logger.warn("Publishing message to {} DLQ due to {} processing failure", flow, classification, exception);
+
+        String messageType = messageFlowRegistry.flow(flow).getMessageType();
+        long startedAt = System.nanoTime();
+        boolean published = false;
+        try {
+            messageTransport.sendToDlq(flow,
+                    createDlqMessage(message, exception, messageType, retryCount, classification));
+            published = true;
+            logger.debug("Message successfully published to {} DLQ", flow);
+        } catch (JsonProcessingException e) {
+            // Sem a DLQ a mensagem não pode ser confirmada: a exceção faz o listener devolvê-la à fila
+            throw new MessagePublishException("Failed to serialize DLQ message for flow: " + flow, e);
+        } catch (RuntimeException e) {
+            logger.error("Failed to publish message to {} DLQ", flow, e);
+            throw e;
+        } finally {
+            pipelineMetrics.record(PipelineMetrics.Stage.DLQ_PUBLISH, messageType, published, System.nanoTime() - startedAt);
+        }
+    }
+
+    private Message createDlqMessage(byte[] originalMessage, Exception exception, String messageType, int retryCount,
+                                     FailureClassification classification) throws JsonProcessingException {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+
+        if (envelopeFormat == DlqEnvelopeFormat.HEADERS) {
+            // Corpo original repassado byte a byte: sem segunda serialização e pronto para replay
+            properties.setHeader(DeadLetterHeaders.ERROR_TYPE, exception.getClass().getSimpleName());
+            properties.setHeader(DeadLetterHeaders.ERROR_MESSAGE, truncate(exception.getMessage()));
+            properties.setHeader(DeadLetterHeaders.MESSAGE_TYPE, messageType);
+            properties.setHeader(DeadLetterHeaders.FAILED_AT, LocalDateTime.now().toString());
+            properties.setHeader(DeadLetterHeaders.RETRY_COUNT, retryCount);
+            properties.setHeader(DeadLetterHeaders.CLASSIFICATION, classification.name());
+            return new Message(originalMessage, properties);
+        }
+
+        byte[] jsonMessage = objectMapper.writeValueAsBytes(
+                createJsonEnvelope(originalMessage, exception, messageType, retryCount, classification));
+        return new Message(jsonMessage, properties);
+    }
+
+    private Map<String, Object> createJsonEnvelope(byte[] originalMessage, Exception exception, String messageType,
+                                                   int retryCount, FailureClassification classification) {
+        Map<String, Object> dlqMessage = new HashMap<>();
+        dlqMessage.put("originalMessage", new String(originalMessage, StandardCharsets.UTF_8));
+        dlqMessage.put("errorMessage", exception.getMessage());
+        dlqMessage.put("errorType", exception.getClass().getSimpleName());
+        dlqMessage.put("messageType", messageType);
+        dlqMessage.put("timestamp", LocalDateTime.now().toString());
+        dlqMessage.put("retryCount", retryCount);
+        dlqMessage.put("classification", classification.name());
+
+        return dlqMessage;
+    }
+
+    private String truncate(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_HEADER_LENGTH) {
+            return errorMessage;
+        }
+        return errorMessage.substring(0, MAX_ERROR_MESSAGE_HEADER_LENGTH);
+    }
+}
\ No newline at end of file
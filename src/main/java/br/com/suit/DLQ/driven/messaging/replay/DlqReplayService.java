@@ -0,0 +1,269 @@
+package br.com.suit.DLQ.driven.messaging.replay;
+
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.ShardKeyType;
+import br.com.suit.DLQ.driven.messaging.flow.ShardedQueues;
+import br.com.suit.DLQ.driven.messaging.publisher.DeadLetterHeaders;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class DlqReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DlqReplayService.class);
+
+    private static final String REPLAY_JOB_HEADER = "x-replay-job";
+    // Motivo gravado pelo broker ao dead-letterar por conta própria (expired, rejected, maxlen)
+    private static final String BROKER_DEATH_REASON_HEADER = "x-first-death-reason";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ReplayJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${rabbitmq.replay.default-rate}")
+    private double defaultRatePerSecond;
+
+    @Value("${rabbitmq.replay.default-parallelism}")
+    private int defaultParallelism;
+
+    @Value("${rabbitmq.replay.max-parallelism}")
+    private int maxParallelism;
+
+    @Value("${rabbitmq.replay.max-retained-jobs}")
+    private int maxRetainedJobs;
+
+    @Value("${rabbitmq.publisher.confirm-timeout}")
+    private long confirmTimeout;
+
+    public DlqReplayService(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper,
+                            MessageFlowRegistry messageFlowRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.messageFlowRegistry = messageFlowRegistry;
+    }
+
+    public ReplayJob start(String flow, String errorType, Long maxMessages, Double ratePerSecond, Integer parallelism) {
+        ReplayTarget target = targetOf(flow);
+        int workerCount = Math.min(maxParallelism, parallelism != null && parallelism > 0 ? parallelism : defaultParallelism);
+        double rate = ratePerSecond != null && ratePerSecond > 0 ? ratePerSecond : defaultRatePerSecond;
+
+        // Limita o job à profundidade atual da DLQ: mensagens filtradas voltam ao fim da fila e não são relidas
+        Long depthReading = rabbitTemplate.execute(channel -> channel.messageCount(target.dlqName()));
+        long depth = depthReading != null ? depthReading : 0;
+        long limit = maxMessages != null && maxMessages > 0 ? Math.min(maxMessages, depth) : depth;
+
+        ReplayJob job = new ReplayJob(UUID.randomUUID().toString(), flow, errorType, limit, rate, workerCount);
+        jobs.put(job.getId(), job);
+        evictFinishedJobs();
+        logger.info("Starting DLQ replay {} for {}: {} messages, {} msg/s, {} workers",
+                job.getId(), flow, limit, rate, workerCount);
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            tasks.add(CompletableFuture.runAsync(() -> replayLoop(job, target), workers));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.error("DLQ replay {} failed", job.getId(), error);
+                job.fail(error.getMessage());
+            } else {
+                job.complete();
+            }
+            logger.info("DLQ replay {} finished with status {}: {} replayed, {} skipped, {} failed",
+                    job.getId(), job.getStatus(), job.getReplayed(), job.getSkipped(), job.getFailed());
+        });
+        return job;
+    }
+
+    public ReplayJob find(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public Collection<ReplayJob> findAll() {
+        return jobs.values();
+    }
+
+    // Mantém no máximo max-retained-jobs jobs, descartando os concluídos mais antigos; jobs ativos nunca saem
+    private void evictFinishedJobs() {
+        int excess = jobs.size() - maxRetainedJobs;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.getFinishedAt() != null)
+                .sorted(Comparator.comparing(ReplayJob::getFinishedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(ReplayJob::cancel);
+        workers.shutdown();
+    }
+
+    private void replayLoop(ReplayJob job, ReplayTarget target) {
+        while (job.isActive()) {
+            try {
+                job.awaitWhilePaused();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!job.isActive() || !job.tryClaim()) {
+                return;
+            }
+
+            job.acquirePermit();
+            Boolean found = rabbitTemplate.execute(channel -> replayOne(channel, job, target));
+            if (!Boolean.TRUE.equals(found)) {
+                return;
+            }
+        }
+    }
+
+    private boolean replayOne(Channel channel, ReplayJob job, ReplayTarget target) throws IOException {
+        GetResponse response = channel.basicGet(target.dlqName(), false);
+        if (response == null) {
+            return false;
+        }
+
+        long deliveryTag = response.getEnvelope().getDeliveryTag();
+        AMQP.BasicProperties properties = response.getProps();
+        Map<String, Object> headers = properties.getHeaders() != null ? properties.getHeaders() : Map.of();
+
+        try {
+            DeadLetter deadLetter = unwrap(response.getBody(), headers);
+            if (!job.matches(deadLetter.errorType())) {
+                // Não selecionada pelo filtro: volta ao fim da DLQ
+                channel.basicPublish("", target.dlqName(), properties, response.getBody());
+                awaitConfirm(channel);
+                channel.basicAck(deliveryTag, false);
+                job.recordSkipped();
+                return true;
+            }
+
+            channel.basicPublish(target.exchangeName(), target.routingKey(),
+                    replayProperties(properties, headers, job, target, deadLetter.payload()), deadLetter.payload());
+            awaitConfirm(channel);
+            channel.basicAck(deliveryTag, false);
+            job.recordReplayed();
+        } catch (Exception e) {
+            logger.error("Failed to replay DLQ message in job {}", job.getId(), e);
+            job.recordFailed();
+            // Um nack ou timeout de confirmação fecha o canal, e o fechamento já devolve a mensagem à DLQ
+            if (channel.isOpen()) {
+                channel.basicNack(deliveryTag, false, true);
+            }
+        }
+        return true;
+    }
+
+    // A mensagem só sai da DLQ depois que o broker confirma a republicação
+    private void awaitConfirm(Channel channel) throws IOException {
+        channel.confirmSelect();
+        try {
+            channel.waitForConfirmsOrDie(confirmTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for broker confirm", e);
+        } catch (TimeoutException e) {
+            throw new IOException("Broker confirm not received within " + confirmTimeout + " ms", e);
+        }
+    }
+
+    private DeadLetter unwrap(byte[] body, Map<String, Object> headers) throws IOException {
+        Object errorType = headers.get(DeadLetterHeaders.ERROR_TYPE);
+        if (errorType != null) {
+            return new DeadLetter(errorType.toString(), body);
+        }
+
+        // Envelope JSON legado: a mensagem original está embutida como string
+        JsonNode envelope = readJson(body);
+        if (envelope != null && envelope.path("originalMessage").isTextual()) {
+            return new DeadLetter(envelope.path("errorType").asText(null),
+                    envelope.path("originalMessage").asText().getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Dead-letter do próprio broker (TTL, rejeição, limite de tamanho): o corpo é o comando original
+        Object deathReason = headers.get(BROKER_DEATH_REASON_HEADER);
+        return new DeadLetter(deathReason != null ? deathReason.toString() : null, body);
+    }
+
+    private JsonNode readJson(byte[] body) throws IOException {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private AMQP.BasicProperties replayProperties(AMQP.BasicProperties properties, Map<String, Object> headers,
+                                                  ReplayJob job, ReplayTarget target, byte[] payload)
+            throws IOException {
+        Map<String, Object> replayHeaders = new HashMap<>(headers);
+        replayHeaders.remove(DeadLetterHeaders.ERROR_TYPE);
+        replayHeaders.remove(DeadLetterHeaders.ERROR_MESSAGE);
+        replayHeaders.remove(DeadLetterHeaders.FAILED_AT);
+        replayHeaders.remove(DeadLetterHeaders.RETRY_COUNT);
+        replayHeaders.remove(DeadLetterHeaders.CLASSIFICATION);
+        replayHeaders.put(REPLAY_JOB_HEADER, job.getId());
+        if (target.shardKeyField() != null) {
+            // A DLQ não guarda o header da chave: recalculada do corpo para voltar à mesma partição
+            replayHeaders.put(ShardedQueues.SHARD_KEY_HEADER, shardKeyOf(payload, target.shardKeyField()));
+        }
+        return properties.builder().headers(replayHeaders).build();
+    }
+
+    private String shardKeyOf(byte[] payload, String shardKeyField) throws IOException {
+        JsonNode command = objectMapper.readTree(payload);
+        String key = command.path(shardKeyField).asText(null);
+        return key != null ? key : command.path("id").asText("");
+    }
+
+    private ReplayTarget targetOf(String flow) {
+        // Fluxo desconhecido: IllegalArgumentException vinda do registro
+        FlowSettings settings = messageFlowRegistry.settings(flow);
+        String shardKeyField = null;
+        if (settings.getSharding().isEnabled()) {
+            shardKeyField = settings.getSharding().getKey() == ShardKeyType.GROUP
+                    ? messageFlowRegistry.flow(flow).getGroupField()
+                    : "id";
+        }
+        return new ReplayTarget(settings.getDlq(), settings.getExchange(), settings.getRoutingKey(), shardKeyField);
+    }
+
+    private record ReplayTarget(String dlqName, String exchangeName, String routingKey, String shardKeyField) {
+    }
+
+    private record DeadLetter(String errorType, byte[] payload) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package br.com.suit.DLQ.driven.messaging.replay;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplayJob {
+
+    private final String id;
+    private final String flow;
+    private final String errorType;
+    private final long limit;
+    private final double ratePerSecond;
+    private final int parallelism;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final LocalDateTime startedAt;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile ReplayStatus status = ReplayStatus.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureReason;
+
+    public ReplayJob(String id, String flow, String errorType, long limit, double ratePerSecond, int parallelism) {
+        this.id = id;
+        this.flow = flow;
+        this.errorType = errorType;
+        this.limit = limit;
+        this.ratePerSecond = ratePerSecond;
+        this.parallelism = parallelism;
+        this.rateLimiter = new TokenBucketRateLimiter(ratePerSecond);
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // Reserva uma mensagem do total do job; falso quando o limite foi atingido
+    boolean tryClaim() {
+        return claimed.incrementAndGet() <= limit;
+    }
+
+    boolean isActive() {
+        ReplayStatus current = status;
+        return current == ReplayStatus.RUNNING || current == ReplayStatus.PAUSED;
+    }
+
+    boolean matches(String messageErrorType) {
+        return errorType == null || errorType.equals(messageErrorType);
+    }
+
+    void acquirePermit() {
+        rateLimiter.acquire();
+    }
+
+    synchronized void awaitWhilePaused() throws InterruptedException {
+        while (status == ReplayStatus.PAUSED) {
+            wait();
+        }
+    }
+
+    public synchronized boolean pause() {
+        if (status != ReplayStatus.RUNNING) {
+            return false;
+        }
+        status = ReplayStatus.PAUSED;
+        return true;
+    }
+
+    public synchronized boolean resume() {
+        if (status != ReplayStatus.PAUSED) {
+            return false;
+        }
+        status = ReplayStatus.RUNNING;
+        notifyAll();
+        return true;
+    }
+
+    public synchronized boolean cancel() {
+        if (!isActive()) {
+            return false;
+        }
+        status = ReplayStatus.CANCELLED;
+        finishedAt = LocalDateTime.now();
+        notifyAll();
+        return true;
+    }
+
+    synchronized void complete() {
+        if (isActive()) {
+            status = ReplayStatus.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    synchronized void fail(String reason) {
+        if (isActive()) {
+            status = ReplayStatus.FAILED;
+            failureReason = reason;
+            finishedAt = LocalDateTime.now();
+            notifyAll();
+        }
+    }
+
+    void recordReplayed() {
+        replayed.incrementAndGet();
+    }
+
+    void recordSkipped() {
+        skipped.incrementAndGet();
+    }
+
+    void recordFailed() {
+        failed.incrementAndGet();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFlow() {
+        return flow;
+    }
+
+    public String getErrorType() {
+        return errorType;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public ReplayStatus getStatus() {
+        return status;
+    }
+
+    public long getReplayed() {
+        return replayed.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getProcessed() {
+        return replayed.get() + skipped.get() + failed.get();
+    }
+
+    public double getProgress() {
+        return limit == 0 ? 1.0 : Math.min(1.0, (double) getProcessed() / limit);
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package br.com.suit.DLQ.driven.messaging.replay;
+
+public enum ReplayStatus {
+    RUNNING,
+    PAUSED,
+    CANCELLED,
+    COMPLETED,
+    FAILED
+}
\ No newline at end of file
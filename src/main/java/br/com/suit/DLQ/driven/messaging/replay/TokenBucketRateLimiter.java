@@ -0,0 +1,45 @@
+package br.com.suit.DLQ.driven.messaging.replay;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class TokenBucketRateLimiter {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be positive");
+        }
+        this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        // Permite rajadas de no máximo um segundo de tokens
+        this.capacity = Math.max(1.0, permitsPerSecond);
+        this.availableTokens = 0;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire() {
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        availableTokens = Math.min(capacity, availableTokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        if (availableTokens >= 1.0) {
+            availableTokens -= 1.0;
+            return 0;
+        }
+        return (long) Math.ceil((1.0 - availableTokens) / tokensPerNano);
+    }
+}
\ No newline at end of file
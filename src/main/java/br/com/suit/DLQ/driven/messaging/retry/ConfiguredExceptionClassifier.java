@@ -0,0 +1,63 @@
+package br.com.suit.DLQ.driven.messaging.retry;
+
+import br.com.suit.DLQ.application.domain.FailureClassification;
+import br.com.suit.DLQ.driven.messaging.flow.FlowClassificationSettings;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Classificador por listas de tipos de exceção: vence o tipo configurado mais próximo na hierarquia
+public class ConfiguredExceptionClassifier implements ExceptionClassifier {
+
+    // Limite defensivo para cadeias de causas cíclicas ou muito profundas
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private final FailureClassification defaultClassification;
+    private final Map<Class<?>, FailureClassification> configured = new HashMap<>();
+    // Resultado por classe concreta: a subida na hierarquia acontece uma vez por tipo de exceção
+    private final Map<Class<?>, Optional<FailureClassification>> resolved = new ConcurrentHashMap<>();
+
+    public ConfiguredExceptionClassifier(FlowClassificationSettings settings) {
+        this.defaultClassification = settings.getDefaultClassification();
+        register(settings.getRetryable(), FailureClassification.RETRYABLE);
+        register(settings.getNonRetryable(), FailureClassification.NON_RETRYABLE);
+        register(settings.getDiscard(), FailureClassification.DISCARD);
+    }
+
+    // Percorre da exceção externa até a causa raiz: wrappers sem configuração deixam a causa decidir
+    @Override
+    public FailureClassification classify(Throwable exception) {
+        Throwable current = exception;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            Optional<FailureClassification> classification = resolved.computeIfAbsent(current.getClass(), this::lookup);
+            if (classification.isPresent()) {
+                return classification.get();
+            }
+            current = current.getCause() != current ? current.getCause() : null;
+        }
+        return defaultClassification;
+    }
+
+    private Optional<FailureClassification> lookup(Class<?> type) {
+        for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+            FailureClassification classification = configured.get(candidate);
+            if (classification != null) {
+                return Optional.of(classification);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void register(List<Class<? extends Throwable>> types, FailureClassification classification) {
+        for (Class<? extends Throwable> type : types) {
+            FailureClassification previous = configured.putIfAbsent(type, classification);
+            if (previous != null && previous != classification) {
+                throw new IllegalStateException("Exception type " + type.getName() + " is classified as both "
+                        + previous + " and " + classification);
+            }
+        }
+    }
+}
\ No newline at end of file
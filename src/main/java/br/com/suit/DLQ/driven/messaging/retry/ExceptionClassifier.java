@@ -0,0 +1,10 @@
+package br.com.suit.DLQ.driven.messaging.retry;
+
+import br.com.suit.DLQ.application.domain.FailureClassification;
+
+// Decide o destino de uma falha; implementações próprias são beans referenciados em classification.classifier
+@FunctionalInterface
+public interface ExceptionClassifier {
+
+    FailureClassification classify(Throwable exception);
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package br.com.suit.DLQ.driven.messaging.retry;
+
+import br.com.suit.DLQ.application.domain.FailureClassification;
+import br.com.suit.DLQ.driven.messaging.flow.FlowClassificationSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class FlowFailureClassifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlowFailureClassifier.class);
+
+    private final Map<String, ExceptionClassifier> classifiers = new HashMap<>();
+    private final Map<String, Map<FailureClassification, Counter>> counters = new HashMap<>();
+
+    public FlowFailureClassifier(MessageFlowRegistry messageFlowRegistry, ListableBeanFactory beanFactory,
+                                 MeterRegistry meterRegistry) {
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            FlowClassificationSettings settings = messageFlowRegistry.classification(flow.getName());
+            // Um bean nomeado em classifier substitui a classificação por listas do fluxo
+            ExceptionClassifier classifier = settings.getClassifier() != null && !settings.getClassifier().isBlank()
+                    ? beanFactory.getBean(settings.getClassifier(), ExceptionClassifier.class)
+                    : new ConfiguredExceptionClassifier(settings);
+            classifiers.put(flow.getName(), classifier);
+
+            Map<FailureClassification, Counter> flowCounters = new EnumMap<>(FailureClassification.class);
+            for (FailureClassification classification : FailureClassification.values()) {
+                flowCounters.put(classification, Counter.builder("failures.classified")
+                        .tag("flow", flow.getName())
+                        .tag("classification", classification.name())
+                        .description("Processing failures by retry classification")
+                        .register(meterRegistry));
+            }
+            counters.put(flow.getName(), flowCounters);
+
+            logger.info("Flow {} classifies failures with {}", flow.getName(), classifier.getClass().getSimpleName());
+        }
+    }
+
+    public FailureClassification classify(String flow, Exception exception) {
+        ExceptionClassifier classifier = classifiers.get(flow);
+        if (classifier == null) {
+            throw new IllegalArgumentException("Unknown message flow: " + flow);
+        }
+        FailureClassification classification;
+        try {
+            classification = classifier.classify(exception);
+        } catch (Exception e) {
+            // Classificador próprio com defeito não pode perder a mensagem: segue o caminho de retry
+            logger.error("Exception classifier of flow {} failed, treating failure as retryable", flow, e);
+            classification = FailureClassification.RETRYABLE;
+        }
+        if (classification == null) {
+            classification = FailureClassification.RETRYABLE;
+        }
+        counters.get(flow).get(classification).increment();
+        return classification;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package br.com.suit.DLQ.driven.messaging.retry;
+
+import br.com.suit.DLQ.application.domain.FailureClassification;
+import br.com.suit.DLQ.application.ports.outbound.DeadLetterQueuePublisher;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.publisher.DeadLetterHeaders;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RetryRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryRouter.class);
+
+    private final MessageTransport messageTransport;
+    private final DeadLetterQueuePublisher deadLetterQueuePublisher;
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final FlowFailureClassifier flowFailureClassifier;
+
+    public RetryRouter(MessageTransport messageTransport, DeadLetterQueuePublisher deadLetterQueuePublisher,
+                       MessageFlowRegistry messageFlowRegistry, FlowFailureClassifier flowFailureClassifier) {
+        this.messageTransport = messageTransport;
+        this.deadLetterQueuePublisher = deadLetterQueuePublisher;
+        this.messageFlowRegistry = messageFlowRegistry;
+        this.flowFailureClassifier = flowFailureClassifier;
+    }
+
+    // Cada fluxo tem sua própria política: classificação, número de níveis e atrasos vêm das configurações do fluxo
+    public void route(String flow, Message message, Exception exception) {
+        int retryCount = retryCountOf(message);
+        FailureClassification classification = flowFailureClassifier.classify(flow, exception);
+
+        if (classification == FailureClassification.DISCARD) {
+            logger.warn("Discarding {} message: failure classified as {}", flow, classification, exception);
+            return;
+        }
+
+        // Falhas que não podem ter sucesso vão direto para a DLQ, sem ocupar os retry tiers
+        int tiers = messageFlowRegistry.retryDelays(flow).size();
+        if (classification == FailureClassification.RETRYABLE
+                && retryCount < tiers
+                && publishToRetryTier(flow, message, retryCount + 1, tiers)) {
+            return;
+        }
+        deadLetterQueuePublisher.publishToDlq(flow, message.getBody(), exception, retryCount, classification);
+    }
+
+    private boolean publishToRetryTier(String flow, Message message, int tier, int tiers) {
+        // O transporte segura a mensagem pelo atraso do nível e a devolve à fila principal: nenhuma thread dorme
+        MessageProperties original = message.getMessageProperties();
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(original.getContentType());
+        properties.setContentEncoding(original.getContentEncoding());
+        properties.getHeaders().putAll(original.getHeaders());
+        properties.setHeader(DeadLetterHeaders.RETRY_COUNT, tier);
+
+        try {
+            messageTransport.sendToRetry(flow, tier, new Message(message.getBody(), properties));
+            logger.debug("Message scheduled for retry tier {} of {} on flow {}", tier, tiers, flow);
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to publish message to retry tier {}, sending it to DLQ", tier, e);
+            return false;
+        }
+    }
+
+    private int retryCountOf(Message message) {
+        Object retryCount = message.getMessageProperties().getHeader(DeadLetterHeaders.RETRY_COUNT);
+        return retryCount instanceof Number number ? number.intValue() : 0;
+    }
+}
\ No newline at end of file
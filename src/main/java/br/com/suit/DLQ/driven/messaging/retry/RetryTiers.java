@@ -0,0 +1,17 @@
+package br.com.suit.DLQ.driven.messaging.retry;
+
+public final class RetryTiers {
+
+    private static final String RETRY_SUFFIX = ".retry.";
+
+    private RetryTiers() {
+    }
+
+    public static String queueName(String queueName, int tier) {
+        return queueName + RETRY_SUFFIX + tier;
+    }
+
+    public static String routingKey(String routingKey, int tier) {
+        return routingKey + RETRY_SUFFIX + tier;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package br.com.suit.DLQ.driven.messaging.transport;
+
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.analytics.DlqFailureAnalytics;
+import br.com.suit.DLQ.driven.messaging.converter.FinancialMessageConverter;
+import br.com.suit.DLQ.driven.messaging.flow.DlqMonitorListener;
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowListener;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.retry.RetryRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Equivalente em memória do RabbitListenerConfig: threads próprias consomem os ring buffers de cada fluxo
+@Component
+@ConditionalOnProperty(name = "processing.transport.type", havingValue = "memory")
+public class InMemoryFlowConsumers implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryFlowConsumers.class);
+
+    private static final int SPIN_ROUNDS = 100;
+    private static final long MAX_IDLE_PARK_NANOS = 1_000_000;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private final InMemoryMessageTransport transport;
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final RetryRouter retryRouter;
+    private final FinancialMessageConverter messageConverter;
+    private final PipelineMetrics pipelineMetrics;
+    private final DlqFailureAnalytics dlqFailureAnalytics;
+    private final int defaultConsumers;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public InMemoryFlowConsumers(InMemoryMessageTransport transport,
+                                 MessageFlowRegistry messageFlowRegistry,
+                                 RetryRouter retryRouter,
+                                 FinancialMessageConverter messageConverter,
+                                 PipelineMetrics pipelineMetrics,
+                                 DlqFailureAnalytics dlqFailureAnalytics,
+                                 @Value("${processing.transport.memory.consumers}") int defaultConsumers) {
+        this.transport = transport;
+        this.messageFlowRegistry = messageFlowRegistry;
+        this.retryRouter = retryRouter;
+        this.messageConverter = messageConverter;
+        this.pipelineMetrics = pipelineMetrics;
+        this.dlqFailureAnalytics = dlqFailureAnalytics;
+        this.defaultConsumers = defaultConsumers;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            FlowSettings settings = messageFlowRegistry.settings(flow.getName());
+            MessageFlowListener<?> listener = new MessageFlowListener<>(flow, MessageLane.STANDARD, retryRouter,
+                    messageConverter, pipelineMetrics, settings.getMaxInFlight());
+            int consumers = settings.getConcurrency() != null ? settings.getConcurrency() : defaultConsumers;
+
+            // Em lote entrega o que já estiver na fila, até o tamanho do lote, sem aguardar completá-lo
+            boolean batch = settings.getBatch().isEnabled();
+            int batchSize = batch ? settings.getBatch().getSize() : 1;
+            Consumer<List<Message>> handler = batch
+                    ? listener::onMessageBatch
+                    : messages -> listener.onMessage(messages.get(0));
+
+            BoundedRingBuffer<Message> mainQueue = transport.mainQueue(flow.getName());
+            for (int i = 0; i < consumers; i++) {
+                startThread(flow.getName() + "-memory-consumer-" + i, () -> consume(mainQueue, batchSize, handler));
+            }
+
+            BoundedRingBuffer<Message> priorityQueue = transport.priorityQueue(flow.getName());
+            if (priorityQueue != null) {
+                // Pool dedicado e sem lote: o backlog da fila principal não atrasa as mensagens prioritárias
+                MessageFlowListener<?> priorityListener = new MessageFlowListener<>(flow, MessageLane.PRIORITY,
+                        retryRouter, messageConverter, pipelineMetrics, settings.getMaxInFlight());
+                for (int i = 0; i < settings.getPriority().getConcurrency(); i++) {
+                    startThread(flow.getName() + "-memory-priority-consumer-" + i, () -> consume(priorityQueue, 1,
+                            messages -> priorityListener.onMessage(messages.get(0))));
+                }
+            }
+
+            DlqMonitorListener dlqMonitor = new DlqMonitorListener(flow, dlqFailureAnalytics);
+            BoundedRingBuffer<Message> dlqMonitorQueue = transport.dlqMonitorQueue(flow.getName());
+            startThread(flow.getName() + "-memory-dlq-monitor",
+                    () -> consume(dlqMonitorQueue, 1, messages -> dlqMonitor.onMessage(messages.get(0))));
+
+            logger.info("Flow {} consuming from in-memory transport ({} consumers, {} priority consumers, batch {})",
+                    flow.getName(), consumers, priorityQueue != null ? settings.getPriority().getConcurrency() : 0,
+                    batch ? batchSize : "disabled");
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+
+        // Sem broker não há durabilidade: o que restou nas filas se perde no shutdown
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            long remaining = transport.queueDepth(flow.getName());
+            if (remaining > 0) {
+                logger.warn("Flow {} stopped with {} messages left in the in-memory queue", flow.getName(), remaining);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        threads.add(thread);
+    }
+
+    private void consume(BoundedRingBuffer<Message> queue, int batchSize, Consumer<List<Message>> handler) {
+        List<Message> messages = new ArrayList<>(batchSize);
+        int idleRounds = 0;
+        while (running) {
+            if (queue.drainTo(messages, batchSize) == 0) {
+                idle(++idleRounds);
+                continue;
+            }
+            idleRounds = 0;
+            try {
+                handler.accept(messages);
+            } catch (Exception e) {
+                // Os listeners já encaminham falhas para retry ou DLQ: aqui só chegam erros inesperados
+                logger.error("Unexpected error in in-memory consumer {}", Thread.currentThread().getName(), e);
+            } finally {
+                messages.clear();
+            }
+        }
+    }
+
+    // Espera ativa curta para rajadas, depois park com backoff exponencial para não ocupar CPU com a fila vazia
+    private void idle(int idleRounds) {
+        if (idleRounds <= SPIN_ROUNDS) {
+            Thread.onSpinWait();
+            return;
+        }
+        int backoff = Math.min(idleRounds - SPIN_ROUNDS, 10);
+        LockSupport.parkNanos(Math.min(MAX_IDLE_PARK_NANOS, 1000L << backoff));
+    }
+}
\ No newline at end of file
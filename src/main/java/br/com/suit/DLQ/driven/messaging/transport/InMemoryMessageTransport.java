@@ -0,0 +1,220 @@
+package br.com.suit.DLQ.driven.messaging.transport;
+
+import br.com.suit.DLQ.driven.messaging.converter.FinancialMessageConverter;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.flow.PriorityLanes;
+import br.com.suit.DLQ.driven.messaging.publisher.MessagePublishException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+@ConditionalOnProperty(name = "processing.transport.type", havingValue = "memory")
+public class InMemoryMessageTransport implements MessageTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMessageTransport.class);
+
+    private static final long OFFER_BACKOFF_NANOS = 50_000;
+    // Nova tentativa de devolver à fila principal cheia uma mensagem que terminou o atraso do retry
+    private static final long REDELIVERY_BACKOFF_MILLIS = 100;
+
+    private final MessageFlowRegistry messageFlowRegistry;
+    private final FinancialMessageConverter messageConverter;
+    private final Map<String, FlowQueues> queues = new HashMap<>();
+    private final long publishTimeoutNanos;
+    private final ScheduledExecutorService retryScheduler;
+
+    public InMemoryMessageTransport(MessageFlowRegistry messageFlowRegistry,
+                                    FinancialMessageConverter messageConverter,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${processing.transport.memory.capacity}") int capacity,
+                                    @Value("${processing.transport.memory.dlq-capacity}") int dlqCapacity,
+                                    @Value("${processing.transport.memory.publish-timeout}") long publishTimeoutMillis) {
+        this.messageFlowRegistry = messageFlowRegistry;
+        this.messageConverter = messageConverter;
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            // Fila prioritária só para fluxos com a faixa ativa, com a mesma capacidade da principal
+            BoundedRingBuffer<Message> priority = messageFlowRegistry.settings(flow.getName()).getPriority().isEnabled()
+                    ? new BoundedRingBuffer<>(capacity)
+                    : null;
+            FlowQueues flowQueues = new FlowQueues(flow.getName(), new BoundedRingBuffer<>(capacity), priority,
+                    new BoundedRingBuffer<>(dlqCapacity), new BoundedRingBuffer<>(dlqCapacity), meterRegistry);
+            queues.put(flow.getName(), flowQueues);
+        }
+
+        // Os atrasos dos retry tiers são cumpridos por um agendador, no lugar das filas com TTL do broker
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "memory-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        logger.info("In-memory transport initialized for flows {} (capacity {}, DLQ capacity {})", queues.keySet(),
+                capacity, dlqCapacity);
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String flow, Object payload, MessageLane lane) {
+        FlowQueues flowQueues = queuesOf(flow);
+        boolean priority = lane == MessageLane.PRIORITY && flowQueues.priority != null;
+        Message message;
+        try {
+            // Mesma serialização do RabbitTemplate: os listeners recebem os mesmos bytes e headers
+            MessageProperties properties = new MessageProperties();
+            PriorityLanes.stamp(properties, priority ? MessageLane.PRIORITY : MessageLane.STANDARD);
+            message = messageConverter.toMessage(payload, properties);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(
+                    new MessagePublishException("Failed to serialize message for flow: " + flow, e));
+        }
+
+        // Fila cheia por mais que o timeout equivale à janela de confirmações esgotada no broker
+        if (!offer(priority ? flowQueues.priority : flowQueues.main, message)) {
+            return CompletableFuture.failedFuture(
+                    new MessagePublishException("In-memory queue is full for flow: " + flow));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void sendToRetry(String flow, int tier, Message message) {
+        FlowQueues flowQueues = queuesOf(flow);
+        long delay = messageFlowRegistry.retryDelays(flow).get(tier - 1);
+        retryScheduler.schedule(() -> redeliver(flowQueues, message), delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void sendToDlq(String flow, Message message) {
+        FlowQueues flowQueues = queuesOf(flow);
+        // DLQ cheia descarta a falha mais antiga: as recentes são as mais úteis para análise
+        while (!flowQueues.dlq.offer(message)) {
+            if (flowQueues.dlq.poll() != null) {
+                flowQueues.dlqEvicted.increment();
+                // Sem replay nem broker, a DLQ em memória é a única cópia da falha: avisa uma vez por fluxo
+                if (flowQueues.dlqEvicting.compareAndSet(false, true)) {
+                    logger.warn("In-memory {} DLQ is full ({} messages): oldest failures are being evicted",
+                            flowQueues.flow, flowQueues.dlq.capacity());
+                }
+            }
+        }
+        // Como no binding do broker, a mesma mensagem também vai para a fila de monitoramento
+        if (!flowQueues.dlqMonitor.offer(message)) {
+            flowQueues.dlqMonitorDropped.increment();
+        }
+    }
+
+    @Override
+    public long queueDepth(String flow) {
+        return queuesOf(flow).main.size();
+    }
+
+    BoundedRingBuffer<Message> mainQueue(String flow) {
+        return queuesOf(flow).main;
+    }
+
+    // Nulo quando o fluxo não tem a faixa prioritária ativa
+    BoundedRingBuffer<Message> priorityQueue(String flow) {
+        return queuesOf(flow).priority;
+    }
+
+    BoundedRingBuffer<Message> dlqMonitorQueue(String flow) {
+        return queuesOf(flow).dlqMonitor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int discarded = retryScheduler.shutdownNow().size();
+        if (discarded > 0) {
+            logger.warn("In-memory transport stopped with {} scheduled retries discarded", discarded);
+        }
+    }
+
+    private void redeliver(FlowQueues flowQueues, Message message) {
+        // Como nos níveis do broker, a retentativa volta à fila da faixa de origem
+        BoundedRingBuffer<Message> queue = PriorityLanes.laneOf(message.getMessageProperties()) == MessageLane.PRIORITY
+                && flowQueues.priority != null ? flowQueues.priority : flowQueues.main;
+        if (queue.offer(message)) {
+            return;
+        }
+        try {
+            retryScheduler.schedule(() -> redeliver(flowQueues, message), REDELIVERY_BACKOFF_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Retry of {} message discarded: transport is shutting down", flowQueues.flow);
+        }
+    }
+
+    private boolean offer(BoundedRingBuffer<Message> queue, Message message) {
+        long deadline = System.nanoTime() + publishTimeoutNanos;
+        while (!queue.offer(message)) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(OFFER_BACKOFF_NANOS);
+        }
+        return true;
+    }
+
+    private FlowQueues queuesOf(String flow) {
+        FlowQueues flowQueues = queues.get(flow);
+        if (flowQueues == null) {
+            throw new IllegalArgumentException("Unknown message flow: " + flow);
+        }
+        return flowQueues;
+    }
+
+    private static final class FlowQueues {
+        private final String flow;
+        private final BoundedRingBuffer<Message> main;
+        private final BoundedRingBuffer<Message> priority;
+        private final BoundedRingBuffer<Message> dlq;
+        private final BoundedRingBuffer<Message> dlqMonitor;
+        private final Counter dlqEvicted;
+        private final Counter dlqMonitorDropped;
+        private final AtomicBoolean dlqEvicting = new AtomicBoolean();
+
+        private FlowQueues(String flow, BoundedRingBuffer<Message> main, BoundedRingBuffer<Message> priority,
+                           BoundedRingBuffer<Message> dlq, BoundedRingBuffer<Message> dlqMonitor,
+                           MeterRegistry meterRegistry) {
+            this.flow = flow;
+            this.main = main;
+            this.priority = priority;
+            this.dlq = dlq;
+            this.dlqMonitor = dlqMonitor;
+            this.dlqEvicted = Counter.builder("transport.memory.dropped")
+                    .tag("flow", flow).tag("queue", "dlq").register(meterRegistry);
+            this.dlqMonitorDropped = Counter.builder("transport.memory.dropped")
+                    .tag("flow", flow).tag("queue", "dlq_monitor").register(meterRegistry);
+            Gauge.builder("transport.memory.depth", main, BoundedRingBuffer::size)
+                    .tag("flow", flow).tag("queue", "main").register(meterRegistry);
+            Gauge.builder("transport.memory.depth", dlq, BoundedRingBuffer::size)
+                    .tag("flow", flow).tag("queue", "dlq").register(meterRegistry);
+            if (priority != null) {
+                Gauge.builder("transport.memory.depth", priority, BoundedRingBuffer::size)
+                        .tag("flow", flow).tag("queue", "priority").register(meterRegistry);
+            }
+        }
+    }
+}
\ No newline at end of file
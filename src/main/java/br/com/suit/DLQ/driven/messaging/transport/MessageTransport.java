@@ -0,0 +1,25 @@
+package br.com.suit.DLQ.driven.messaging.transport;
+
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import org.springframework.amqp.core.Message;
+
+import java.util.concurrent.CompletableFuture;
+
+// Porta de transporte dos fluxos: endpoints, retry e DLQ publicam por nome de fluxo, sem conhecer o broker
+public interface MessageTransport {
+
+    // Concluído quando o transporte assume a mensagem (confirmação do broker ou enfileiramento em memória)
+    CompletableFuture<Void> publish(String flow, Object payload, MessageLane lane);
+
+    default CompletableFuture<Void> publish(String flow, Object payload) {
+        return publish(flow, payload, MessageLane.STANDARD);
+    }
+
+    // Retornam só depois que o transporte assume a mensagem; falhas sobem como exceção, antes do ack da origem
+    void sendToRetry(String flow, int tier, Message message);
+
+    void sendToDlq(String flow, Message message);
+
+    // Profundidade da faixa padrão, a que acumula backlog
+    long queueDepth(String flow);
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package br.com.suit.DLQ.driven.messaging.transport;
+
+import br.com.suit.DLQ.driven.messaging.flow.FlowSettings;
+import br.com.suit.DLQ.driven.messaging.flow.FlowShardingSettings;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.flow.PriorityLanes;
+import br.com.suit.DLQ.driven.messaging.flow.ShardedQueues;
+import br.com.suit.DLQ.driven.messaging.publisher.ConfirmedMessagePublisher;
+import br.com.suit.DLQ.driven.messaging.retry.RetryTiers;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "processing.transport.type", havingValue = "rabbitmq", matchIfMissing = true)
+public class RabbitMessageTransport implements MessageTransport {
+
+    private final ConfirmedMessagePublisher confirmedMessagePublisher;
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageFlowRegistry messageFlowRegistry;
+
+    public RabbitMessageTransport(ConfirmedMessagePublisher confirmedMessagePublisher, RabbitTemplate rabbitTemplate,
+                                  MessageFlowRegistry messageFlowRegistry) {
+        this.confirmedMessagePublisher = confirmedMessagePublisher;
+        this.rabbitTemplate = rabbitTemplate;
+        this.messageFlowRegistry = messageFlowRegistry;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String flow, Object payload, MessageLane lane) {
+        FlowSettings settings = messageFlowRegistry.settings(flow);
+        // A fila prioritária não é particionada: a faixa vale mais que a ordem por chave
+        if (lane == MessageLane.PRIORITY && settings.getPriority().isEnabled()) {
+            return confirmedMessagePublisher.publish(settings.getExchange(),
+                    PriorityLanes.routingKey(settings.getRoutingKey()), payload, message -> {
+                        PriorityLanes.stamp(message.getMessageProperties(), MessageLane.PRIORITY);
+                        return message;
+                    });
+        }
+        if (!settings.getSharding().isEnabled()) {
+            return confirmedMessagePublisher.publish(settings.getExchange(), settings.getRoutingKey(), payload,
+                    message -> {
+                        PriorityLanes.stamp(message.getMessageProperties(), MessageLane.STANDARD);
+                        return message;
+                    });
+        }
+
+        // A chave segue no header até o exchange x-consistent-hash e é preservada nos retry tiers
+        MessageFlow<?> messageFlow = messageFlowRegistry.flow(flow);
+        String shardKey = messageFlow.shardKeyOf(payload, settings.getSharding().getKey());
+        return confirmedMessagePublisher.publish(settings.getExchange(), settings.getRoutingKey(), payload,
+                message -> {
+                    message.getMessageProperties().setHeader(ShardedQueues.SHARD_KEY_HEADER, shardKey);
+                    PriorityLanes.stamp(message.getMessageProperties(), MessageLane.STANDARD);
+                    return message;
+                });
+    }
+
+    @Override
+    public void sendToRetry(String flow, int tier, Message message) {
+        // A fila do nível segura a mensagem pelo TTL e a devolve à fila principal
+        FlowSettings settings = messageFlowRegistry.settings(flow);
+        // Retentativas da faixa prioritária têm seus próprios níveis, que as devolvem à fila prioritária
+        String routingKey = PriorityLanes.laneOf(message.getMessageProperties()) == MessageLane.PRIORITY
+                && settings.getPriority().isEnabled()
+                ? PriorityLanes.routingKey(settings.getRoutingKey())
+                : settings.getRoutingKey();
+        confirmedMessagePublisher.publishAndAwait(settings.getExchange(), RetryTiers.routingKey(routingKey, tier),
+                message);
+    }
+
+    @Override
+    public void sendToDlq(String flow, Message message) {
+        // A routing key da DLQ entrega a mesma mensagem à DLQ e à fila de monitoramento
+        FlowSettings settings = messageFlowRegistry.settings(flow);
+        confirmedMessagePublisher.publishAndAwait(settings.getExchange(), settings.getDlqRoutingKey(), message);
+    }
+
+    @Override
+    public long queueDepth(String flow) {
+        FlowSettings settings = messageFlowRegistry.settings(flow);
+        FlowShardingSettings sharding = settings.getSharding();
+        if (!sharding.isEnabled()) {
+            return messageCount(List.of(settings.getName()));
+        }
+        // Profundidade do fluxo inteiro, não só das partições desta instância
+        List<String> partitionQueues = new ArrayList<>(sharding.getPartitions());
+        for (int partition = 0; partition < sharding.getPartitions(); partition++) {
+            partitionQueues.add(ShardedQueues.partitionQueueName(settings.getName(), partition));
+        }
+        return messageCount(partitionQueues);
+    }
+
+    private long messageCount(List<String> queueNames) {
+        Long depth = rabbitTemplate.execute(channel -> {
+            long total = 0;
+            for (String queueName : queueNames) {
+                total += channel.messageCount(queueName);
+            }
+            return total;
+        });
+        return depth != null ? depth : 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package br.com.suit.DLQ.driven.metrics;
+
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Component
+public class MicrometerPipelineMetrics implements PipelineMetrics {
+
+    private static final String METRIC_NAME = "pipeline.stage";
+    private static final String LANE_METRIC_NAME = "pipeline.lane.latency";
+
+    private final MeterRegistry meterRegistry;
+    // Timers reaproveitados por tipo de mensagem e, dentro dele, por (etapa, resultado) e por faixa: evita a busca
+    // no registry e a montagem de chaves a cada mensagem
+    private final Map<String, MessageTypeTimers> timersByType = new ConcurrentHashMap<>();
+
+    public MicrometerPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void record(Stage stage, String messageType, boolean success, long durationNanos) {
+        timersOf(messageType).stageTimer(stage, success).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLaneLatency(String messageType, String lane, long durationNanos) {
+        timersOf(messageType).laneTimer(lane).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private MessageTypeTimers timersOf(String messageType) {
+        MessageTypeTimers timers = timersByType.get(messageType);
+        return timers != null ? timers : timersByType.computeIfAbsent(messageType, MessageTypeTimers::new);
+    }
+
+    private final class MessageTypeTimers {
+
+        private final String messageType;
+        // Posição: ordinal da etapa * 2 + resultado (0 sucesso, 1 falha)
+        private final AtomicReferenceArray<Timer> stageTimers = new AtomicReferenceArray<>(Stage.values().length * 2);
+        private final Map<String, Timer> laneTimers = new ConcurrentHashMap<>();
+
+        private MessageTypeTimers(String messageType) {
+            this.messageType = messageType;
+        }
+
+        private Timer stageTimer(Stage stage, boolean success) {
+            int slot = stage.ordinal() * 2 + (success ? 0 : 1);
+            Timer timer = stageTimers.get(slot);
+            if (timer == null) {
+                // register devolve o timer já existente para o mesmo id: duas threads na primeira gravação
+                // acabam com o mesmo timer
+                timer = Timer.builder(METRIC_NAME)
+                        .tag("stage", stage.getTagValue())
+                        .tag("messageType", messageType)
+                        .tag("outcome", success ? "success" : "failure")
+                        .description("Latency of each message pipeline stage")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+                stageTimers.set(slot, timer);
+            }
+            return timer;
+        }
+
+        private Timer laneTimer(String lane) {
+            Timer timer = laneTimers.get(lane);
+            return timer != null ? timer : laneTimers.computeIfAbsent(lane, key -> Timer.builder(LANE_METRIC_NAME)
+                    .tag("messageType", messageType)
+                    .tag("lane", key)
+                    .description("Latency from publication to processed message, per lane")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
\ No newline at end of file
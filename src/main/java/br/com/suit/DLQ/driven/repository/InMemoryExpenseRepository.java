@@ -1,37 +1,84 @@
 package br.com.suit.DLQ.driven.repository;
 
 import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
 import br.com.suit.DLQ.application.ports.outbound.ExpenseRepository;
+import br.com.suit.DLQ.driven.repository.index.RecordIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
+@ConditionalOnProperty(name = "processing.repository.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryExpenseRepository implements ExpenseRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(InMemoryExpenseRepository.class);
     
     private final Map<String, Expense> expenses = new ConcurrentHashMap<>();
+    private final RecordIndex<Expense> index = new RecordIndex<>(Expense::getId, Expense::getCategory,
+            expense -> expense.getStatus().name(), Expense::getDateTime);
+    private final List<RepositoryListener<Expense>> listeners;
+
+    public InMemoryExpenseRepository(List<RepositoryListener<Expense>> listeners) {
+        this.listeners = listeners;
+    }
 
     @Override
     public void save(Expense expense) {
-        logger.info("Saving expense: {}", expense.getId());
-        expenses.put(expense.getId(), expense);
+        logger.debug("Saving expense: {}", expense.getId());
+        put(expense);
         logger.debug("Expense saved successfully. Total expenses: {}", expenses.size());
     }
 
+    @Override
+    public void saveAll(List<Expense> expenses) {
+        logger.debug("Saving expense batch with {} items", expenses.size());
+        for (Expense expense : expenses) {
+            put(expense);
+        }
+        logger.debug("Expense batch saved successfully. Total expenses: {}", this.expenses.size());
+    }
+
+    @Override
     public Expense findById(String id) {
         return expenses.get(id);
     }
 
+    @Override
+    public RecordPage<Expense> find(ExpenseQuery query) {
+        String status = query.getStatus() != null ? query.getStatus().name() : null;
+        return index.find(query.getCategory(), status, query.getFrom(), query.getTo(), query.getCursor(),
+                query.getLimit(), this::findById);
+    }
+
     public Map<String, Expense> findAll() {
         return Map.copyOf(expenses);
     }
 
     public void clear() {
         expenses.clear();
+        index.clear();
+    }
+
+    // Mapa, índice e listeners atualizados dentro do compute: saves concorrentes do mesmo id são aplicados em
+    // sequência, e o índice nunca fica com a versão mais antiga
+    private void put(Expense expense) {
+        expenses.compute(expense.getId(), (id, previous) -> {
+            notifySaved(previous, expense);
+            return expense;
+        });
+    }
+
+    private void notifySaved(Expense previous, Expense current) {
+        index.update(previous, current);
+        for (RepositoryListener<Expense> listener : listeners) {
+            listener.onSave(previous, current);
+        }
     }
 }
\ No newline at end of file
@@ -1,37 +1,84 @@
 package br.com.suit.DLQ.driven.repository;
 
 import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
 import br.com.suit.DLQ.application.ports.outbound.IncomeRepository;
+import br.com.suit.DLQ.driven.repository.index.RecordIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
+@ConditionalOnProperty(name = "processing.repository.type", havingValue = "memory", matchIfMissing = true)
 public class InMemoryIncomeRepository implements IncomeRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(InMemoryIncomeRepository.class);
     
     private final Map<String, Income> incomes = new ConcurrentHashMap<>();
+    private final RecordIndex<Income> index = new RecordIndex<>(Income::getId, Income::getSource,
+            income -> income.getStatus().name(), Income::getDateTime);
+    private final List<RepositoryListener<Income>> listeners;
+
+    public InMemoryIncomeRepository(List<RepositoryListener<Income>> listeners) {
+        this.listeners = listeners;
+    }
 
     @Override
     public void save(Income income) {
-        logger.info("Saving income: {}", income.getId());
-        incomes.put(income.getId(), income);
+        logger.debug("Saving income: {}", income.getId());
+        put(income);
         logger.debug("Income saved successfully. Total incomes: {}", incomes.size());
     }
 
+    @Override
+    public void saveAll(List<Income> incomes) {
+        logger.debug("Saving income batch with {} items", incomes.size());
+        for (Income income : incomes) {
+            put(income);
+        }
+        logger.debug("Income batch saved successfully. Total incomes: {}", this.incomes.size());
+    }
+
+    @Override
     public Income findById(String id) {
         return incomes.get(id);
     }
 
+    @Override
+    public RecordPage<Income> find(IncomeQuery query) {
+        String status = query.getStatus() != null ? query.getStatus().name() : null;
+        return index.find(query.getSource(), status, query.getFrom(), query.getTo(), query.getCursor(),
+                query.getLimit(), this::findById);
+    }
+
     public Map<String, Income> findAll() {
         return Map.copyOf(incomes);
     }
 
     public void clear() {
         incomes.clear();
+        index.clear();
+    }
+
+    // Mapa, índice e listeners atualizados dentro do compute: saves concorrentes do mesmo id são aplicados em
+    // sequência, e o índice nunca fica com a versão mais antiga
+    private void put(Income income) {
+        incomes.compute(income.getId(), (id, previous) -> {
+            notifySaved(previous, income);
+            return income;
+        });
+    }
+
+    private void notifySaved(Income previous, Income current) {
+        index.update(previous, current);
+        for (RepositoryListener<Income> listener : listeners) {
+            listener.onSave(previous, current);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package br.com.suit.DLQ.driven.repository;
+
+// Notificado a cada save com a versão anterior do registro (null se novo) e a versão salva
+public interface RepositoryListener<T> {
+    void onSave(T previous, T current);
+}
@@ -0,0 +1,102 @@
+package br.com.suit.DLQ.driven.repository.compact;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import br.com.suit.DLQ.application.domain.ExpenseStatus;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.ports.outbound.ExpenseRepository;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import br.com.suit.DLQ.driven.repository.index.RecordIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@ConditionalOnProperty(name = "processing.repository.type", havingValue = "compact")
+public class CompactExpenseRepository implements ExpenseRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactExpenseRepository.class);
+
+    private static final ExpenseStatus[] STATUSES = ExpenseStatus.values();
+    private static final CompactRecordStore.RowMapper<Expense> EXPENSE_MAPPER =
+            (id, description, amount, category, dateTime, status) ->
+                    new Expense(id, description, amount, category, dateTime, STATUSES[status]);
+
+    private final CompactRecordStore store = new CompactRecordStore();
+    private final RecordIndex<Expense> index = new RecordIndex<>(Expense::getId, Expense::getCategory,
+            expense -> expense.getStatus().name(), Expense::getDateTime);
+    private final List<RepositoryListener<Expense>> listeners;
+
+    public CompactExpenseRepository(MeterRegistry meterRegistry, List<RepositoryListener<Expense>> listeners) {
+        this.listeners = listeners;
+        Gauge.builder("repository.records", store, CompactRecordStore::size)
+                .tag("type", "expense")
+                .description("Records held by the compact store").register(meterRegistry);
+        Gauge.builder("repository.record.bytes", this, CompactExpenseRepository::bytesPerRecord)
+                .tag("type", "expense")
+                .description("Approximate heap bytes per record: store columns plus secondary index entries")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(Expense expense) {
+        logger.debug("Saving expense: {}", expense.getId());
+        put(expense);
+    }
+
+    @Override
+    public void saveAll(List<Expense> expenses) {
+        logger.debug("Saving expense batch with {} items", expenses.size());
+        for (Expense expense : expenses) {
+            put(expense);
+        }
+    }
+
+    @Override
+    public Expense findById(String id) {
+        return store.get(id, EXPENSE_MAPPER);
+    }
+
+    @Override
+    public RecordPage<Expense> find(ExpenseQuery query) {
+        String status = query.getStatus() != null ? query.getStatus().name() : null;
+        return index.find(query.getCategory(), status, query.getFrom(), query.getTo(), query.getCursor(),
+                query.getLimit(), this::findById);
+    }
+
+    public Map<String, Expense> findAll() {
+        Map<String, Expense> expenses = new HashMap<>();
+        store.forEach(EXPENSE_MAPPER, expense -> expenses.put(expense.getId(), expense));
+        return Map.copyOf(expenses);
+    }
+
+    public void clear() {
+        store.clear();
+        index.clear();
+    }
+
+    // Notifica com a versão armazenada (dateTime é truncado para microssegundos no store), dentro do lock do store
+    private void put(Expense expense) {
+        store.put(expense.getId(), expense.getDescription(), expense.getAmount(), expense.getCategory(), expense.getDateTime(),
+                expense.getStatus().ordinal(), EXPENSE_MAPPER, this::notifySaved);
+    }
+
+    private double bytesPerRecord() {
+        double storeBytes = store.bytesPerRecord();
+        return storeBytes > 0 ? storeBytes + RecordIndex.BYTES_PER_RECORD : 0;
+    }
+
+    private void notifySaved(Expense previous, Expense current) {
+        index.update(previous, current);
+        for (RepositoryListener<Expense> listener : listeners) {
+            listener.onSave(previous, current);
+        }
+    }
+}
\ No newline at end of file
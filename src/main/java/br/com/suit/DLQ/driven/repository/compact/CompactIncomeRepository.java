@@ -0,0 +1,102 @@
+package br.com.suit.DLQ.driven.repository.compact;
+
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
+import br.com.suit.DLQ.application.domain.IncomeStatus;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.ports.outbound.IncomeRepository;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import br.com.suit.DLQ.driven.repository.index.RecordIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@ConditionalOnProperty(name = "processing.repository.type", havingValue = "compact")
+public class CompactIncomeRepository implements IncomeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactIncomeRepository.class);
+
+    private static final IncomeStatus[] STATUSES = IncomeStatus.values();
+    private static final CompactRecordStore.RowMapper<Income> INCOME_MAPPER =
+            (id, description, amount, source, dateTime, status) ->
+                    new Income(id, description, amount, source, dateTime, STATUSES[status]);
+
+    private final CompactRecordStore store = new CompactRecordStore();
+    private final RecordIndex<Income> index = new RecordIndex<>(Income::getId, Income::getSource,
+            income -> income.getStatus().name(), Income::getDateTime);
+    private final List<RepositoryListener<Income>> listeners;
+
+    public CompactIncomeRepository(MeterRegistry meterRegistry, List<RepositoryListener<Income>> listeners) {
+        this.listeners = listeners;
+        Gauge.builder("repository.records", store, CompactRecordStore::size)
+                .tag("type", "income")
+                .description("Records held by the compact store").register(meterRegistry);
+        Gauge.builder("repository.record.bytes", this, CompactIncomeRepository::bytesPerRecord)
+                .tag("type", "income")
+                .description("Approximate heap bytes per record: store columns plus secondary index entries")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(Income income) {
+        logger.debug("Saving income: {}", income.getId());
+        put(income);
+    }
+
+    @Override
+    public void saveAll(List<Income> incomes) {
+        logger.debug("Saving income batch with {} items", incomes.size());
+        for (Income income : incomes) {
+            put(income);
+        }
+    }
+
+    @Override
+    public Income findById(String id) {
+        return store.get(id, INCOME_MAPPER);
+    }
+
+    @Override
+    public RecordPage<Income> find(IncomeQuery query) {
+        String status = query.getStatus() != null ? query.getStatus().name() : null;
+        return index.find(query.getSource(), status, query.getFrom(), query.getTo(), query.getCursor(),
+                query.getLimit(), this::findById);
+    }
+
+    public Map<String, Income> findAll() {
+        Map<String, Income> incomes = new HashMap<>();
+        store.forEach(INCOME_MAPPER, income -> incomes.put(income.getId(), income));
+        return Map.copyOf(incomes);
+    }
+
+    public void clear() {
+        store.clear();
+        index.clear();
+    }
+
+    // Notifica com a versão armazenada (dateTime é truncado para microssegundos no store), dentro do lock do store
+    private void put(Income income) {
+        store.put(income.getId(), income.getDescription(), income.getAmount(), income.getSource(), income.getDateTime(),
+                income.getStatus().ordinal(), INCOME_MAPPER, this::notifySaved);
+    }
+
+    private double bytesPerRecord() {
+        double storeBytes = store.bytesPerRecord();
+        return storeBytes > 0 ? storeBytes + RecordIndex.BYTES_PER_RECORD : 0;
+    }
+
+    private void notifySaved(Income previous, Income current) {
+        index.update(previous, current);
+        for (RepositoryListener<Income> listener : listeners) {
+            listener.onSave(previous, current);
+        }
+    }
+}
\ No newline at end of file
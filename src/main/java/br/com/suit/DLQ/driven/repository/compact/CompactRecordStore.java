@@ -0,0 +1,216 @@
+package br.com.suit.DLQ.driven.repository.compact;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// Armazenamento colunar em arrays primitivos: uma linha por id, objetos de domínio só são criados na leitura
+public class CompactRecordStore {
+
+    private static final int AMOUNT_SCALE = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Estimativa do custo de cada id no índice (nó do mapa, String, array de bytes e Integer)
+    private static final int ID_ENTRY_OVERHEAD = 96;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private final Map<String, Integer> groupIds = new HashMap<>();
+    private final List<String> groups = new ArrayList<>();
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private long[] amountCents = new long[INITIAL_CAPACITY];
+    private long[] epochMicros = new long[INITIAL_CAPACITY];
+    private int[] groupColumn = new int[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private int[] descriptionOffsets = new int[INITIAL_CAPACITY];
+    private int[] descriptionLengths = new int[INITIAL_CAPACITY];
+    private byte[] descriptionArena = new byte[INITIAL_CAPACITY * 32];
+    private int arenaSize;
+    private long idBytes;
+    private int size;
+
+    public interface RowMapper<T> {
+        T map(String id, String description, BigDecimal amount, String group, LocalDateTime dateTime, int status);
+    }
+
+    // onStored recebe a versão anterior (null se o id é novo) e a armazenada, ainda com o lock de escrita: as
+    // notificações de saves concorrentes do mesmo id seguem a ordem em que as linhas foram gravadas
+    public <T> void put(String id, String description, BigDecimal amount, String group, LocalDateTime dateTime,
+                        int status, RowMapper<T> mapper, BiConsumer<T, T> onStored) {
+        long cents = toCents(amount);
+        long micros = toEpochMicros(dateTime);
+        byte[] descriptionBytes = description.getBytes(StandardCharsets.UTF_8);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = rowsById.get(id);
+            T previous = null;
+            int row;
+            if (existing != null) {
+                row = existing;
+                previous = materialize(row, mapper);
+            } else {
+                row = size++;
+                ensureCapacity(size);
+                ids[row] = id;
+                rowsById.put(id, row);
+                idBytes += id.length() + ID_ENTRY_OVERHEAD;
+            }
+            amountCents[row] = cents;
+            epochMicros[row] = micros;
+            groupColumn[row] = groupId(group);
+            statuses[row] = (byte) status;
+            // Atualizações anexam a nova descrição ao arena; o espaço anterior não é reaproveitado
+            descriptionOffsets[row] = appendDescription(descriptionBytes);
+            descriptionLengths[row] = descriptionBytes.length;
+            onStored.accept(previous, materialize(row, mapper));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public <T> T get(String id, RowMapper<T> mapper) {
+        lock.readLock().lock();
+        try {
+            Integer row = rowsById.get(id);
+            return row != null ? materialize(row, mapper) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public <T> void forEach(RowMapper<T> mapper, Consumer<T> consumer) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                consumer.accept(materialize(row, mapper));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Apenas as colunas e o mapa de ids do store; índices mantidos fora dele não entram na conta
+    public double bytesPerRecord() {
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return 0;
+            }
+            long columnBytes = (long) ids.length * Integer.BYTES
+                    + (long) amountCents.length * Long.BYTES
+                    + (long) epochMicros.length * Long.BYTES
+                    + (long) groupColumn.length * Integer.BYTES
+                    + statuses.length
+                    + (long) descriptionOffsets.length * Integer.BYTES
+                    + (long) descriptionLengths.length * Integer.BYTES;
+            return (double) (columnBytes + descriptionArena.length + idBytes) / size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            rowsById.clear();
+            Arrays.fill(ids, 0, size, null);
+            size = 0;
+            arenaSize = 0;
+            idBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T materialize(int row, RowMapper<T> mapper) {
+        String description = new String(descriptionArena, descriptionOffsets[row], descriptionLengths[row],
+                StandardCharsets.UTF_8);
+        return mapper.map(
+                ids[row],
+                description,
+                BigDecimal.valueOf(amountCents[row], AMOUNT_SCALE),
+                groups.get(groupColumn[row]),
+                fromEpochMicros(epochMicros[row]),
+                statuses[row]
+        );
+    }
+
+    private int groupId(String group) {
+        Integer id = groupIds.get(group);
+        if (id == null) {
+            id = groups.size();
+            groups.add(group);
+            groupIds.put(group, id);
+        }
+        return id;
+    }
+
+    private int appendDescription(byte[] bytes) {
+        if (arenaSize + bytes.length > descriptionArena.length) {
+            long required = (long) arenaSize + bytes.length;
+            long grown = Math.max(required, descriptionArena.length + (descriptionArena.length >> 1));
+            if (grown > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Description storage exceeded its maximum size");
+            }
+            descriptionArena = Arrays.copyOf(descriptionArena, (int) grown);
+        }
+        int offset = arenaSize;
+        System.arraycopy(bytes, 0, descriptionArena, offset, bytes.length);
+        arenaSize += bytes.length;
+        return offset;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+        epochMicros = Arrays.copyOf(epochMicros, capacity);
+        groupColumn = Arrays.copyOf(groupColumn, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        descriptionOffsets = Arrays.copyOf(descriptionOffsets, capacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        try {
+            return amount.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount + " cannot be stored as cents", e);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        long seconds = Math.floorDiv(micros, 1_000_000L);
+        int nanos = (int) Math.floorMod(micros, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
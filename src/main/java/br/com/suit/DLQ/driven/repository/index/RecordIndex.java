@@ -0,0 +1,151 @@
+package br.com.suit.DLQ.driven.repository.index;
+
+import br.com.suit.DLQ.application.domain.RecordPage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+// Índices secundários ordenados por (dateTime, id): todos os registros, por grupo (categoria/origem) e por status
+public class RecordIndex<T> {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::dateTime).thenComparing(Entry::id);
+    private static final String CURSOR_SEPARATOR = "|";
+
+    // Estimativa do heap por registro indexado: Entry (32) com seu LocalDateTime (72) e um nó de skip list em
+    // cada um dos três índices, contando a fração média de nós de nível superior (3 x 32)
+    public static final int BYTES_PER_RECORD = 200;
+
+    private final Function<T, String> idExtractor;
+    private final Function<T, String> groupExtractor;
+    private final Function<T, String> statusExtractor;
+    private final Function<T, LocalDateTime> dateTimeExtractor;
+
+    private final NavigableSet<Entry> byDateTime = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<String, NavigableSet<Entry>> byGroup = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Entry>> byStatus = new ConcurrentHashMap<>();
+
+    public RecordIndex(Function<T, String> idExtractor, Function<T, String> groupExtractor,
+                       Function<T, String> statusExtractor, Function<T, LocalDateTime> dateTimeExtractor) {
+        this.idExtractor = idExtractor;
+        this.groupExtractor = groupExtractor;
+        this.statusExtractor = statusExtractor;
+        this.dateTimeExtractor = dateTimeExtractor;
+    }
+
+    public void update(T previous, T current) {
+        if (previous != null) {
+            Entry entry = entryOf(previous);
+            byDateTime.remove(entry);
+            removeFrom(byGroup, entry.group(), entry);
+            removeFrom(byStatus, entry.status(), entry);
+        }
+        Entry entry = entryOf(current);
+        addTo(byDateTime, entry);
+        addTo(byGroup.computeIfAbsent(entry.group(), key -> new ConcurrentSkipListSet<>(ORDER)), entry);
+        addTo(byStatus.computeIfAbsent(entry.status(), key -> new ConcurrentSkipListSet<>(ORDER)), entry);
+    }
+
+    public void clear() {
+        byDateTime.clear();
+        byGroup.clear();
+        byStatus.clear();
+    }
+
+    // Percorre apenas o intervalo do índice mais seletivo; o custo acompanha o tamanho da página
+    public RecordPage<T> find(String group, String status, LocalDateTime from, LocalDateTime to,
+                              String cursor, int limit, Function<String, T> loader) {
+        NavigableSet<Entry> candidates;
+        if (group != null) {
+            candidates = byGroup.get(group);
+        } else if (status != null) {
+            candidates = byStatus.get(status);
+        } else {
+            candidates = byDateTime;
+        }
+        if (candidates == null) {
+            return new RecordPage<>(List.of(), null);
+        }
+
+        Entry after = cursor != null ? decodeCursor(cursor) : null;
+        if (from != null && (after == null || after.dateTime().isBefore(from))) {
+            // "" ordena antes de qualquer id: inclui todos os registros do instante inicial
+            candidates = candidates.tailSet(new Entry("", from, null, null), true);
+        } else if (after != null) {
+            candidates = candidates.tailSet(after, false);
+        }
+
+        List<T> items = new ArrayList<>(Math.min(limit, 256));
+        Entry last = null;
+        for (Entry entry : candidates) {
+            if (to != null && entry.dateTime().isAfter(to)) {
+                break;
+            }
+            if (status != null && !status.equals(entry.status())) {
+                continue;
+            }
+            // Entradas antigas de atualizações concorrentes são ignoradas comparando com o registro atual
+            T record = loader.apply(entry.id());
+            if (record == null || !entry.equals(entryOf(record))) {
+                continue;
+            }
+            items.add(record);
+            last = entry;
+            if (items.size() == limit) {
+                break;
+            }
+        }
+
+        String nextCursor = items.size() == limit ? encodeCursor(last) : null;
+        return new RecordPage<>(items, nextCursor);
+    }
+
+    private Entry entryOf(T record) {
+        return new Entry(idExtractor.apply(record), dateTimeExtractor.apply(record),
+                groupExtractor.apply(record), statusExtractor.apply(record));
+    }
+
+    // add() não substitui um elemento de mesma chave: remove antes para que a versão mais recente prevaleça
+    private static void addTo(NavigableSet<Entry> entries, Entry entry) {
+        entries.remove(entry);
+        entries.add(entry);
+    }
+
+    private static void removeFrom(Map<String, NavigableSet<Entry>> index, String key, Entry entry) {
+        NavigableSet<Entry> entries = index.get(key);
+        if (entries != null) {
+            entries.remove(entry);
+        }
+    }
+
+    private static String encodeCursor(Entry entry) {
+        String raw = entry.dateTime() + CURSOR_SEPARATOR + entry.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Entry decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new Entry(raw.substring(separator + 1), LocalDateTime.parse(raw.substring(0, separator)), null, null);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    // A ordenação considera apenas (dateTime, id); a igualdade do record compara também grupo e status
+    private record Entry(String id, LocalDateTime dateTime, String group, String status) {
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseStatus;
+
+import java.nio.ByteBuffer;
+
+import static br.com.suit.DLQ.driven.repository.journal.JournalEncoding.*;
+
+public class ExpenseJournalCodec implements JournalCodec<Expense> {
+
+    private static final ExpenseStatus[] STATUSES = ExpenseStatus.values();
+
+    @Override
+    public byte[] encode(Expense expense) {
+        byte[] id = utf8(expense.getId());
+        byte[] description = utf8(expense.getDescription());
+        byte[] amount = unscaled(expense.getAmount());
+        byte[] category = utf8(expense.getCategory());
+
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(id) + sizeOf(description) + sizeOf(amount) + Integer.BYTES
+                + sizeOf(category) + DATE_TIME_SIZE + Byte.BYTES);
+        putBytes(buffer, id);
+        putBytes(buffer, description);
+        putDecimal(buffer, amount, expense.getAmount().scale());
+        putBytes(buffer, category);
+        putDateTime(buffer, expense.getDateTime());
+        buffer.put((byte) expense.getStatus().ordinal());
+        return buffer.array();
+    }
+
+    @Override
+    public Expense decode(ByteBuffer payload) {
+        return new Expense(
+                getString(payload),
+                getString(payload),
+                getDecimal(payload),
+                getString(payload),
+                getDateTime(payload),
+                STATUSES[payload.get()]
+        );
+    }
+}
\ No newline at end of file
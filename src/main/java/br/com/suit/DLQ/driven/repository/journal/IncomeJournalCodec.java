@@ -0,0 +1,43 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeStatus;
+
+import java.nio.ByteBuffer;
+
+import static br.com.suit.DLQ.driven.repository.journal.JournalEncoding.*;
+
+public class IncomeJournalCodec implements JournalCodec<Income> {
+
+    private static final IncomeStatus[] STATUSES = IncomeStatus.values();
+
+    @Override
+    public byte[] encode(Income income) {
+        byte[] id = utf8(income.getId());
+        byte[] description = utf8(income.getDescription());
+        byte[] amount = unscaled(income.getAmount());
+        byte[] source = utf8(income.getSource());
+
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(id) + sizeOf(description) + sizeOf(amount) + Integer.BYTES
+                + sizeOf(source) + DATE_TIME_SIZE + Byte.BYTES);
+        putBytes(buffer, id);
+        putBytes(buffer, description);
+        putDecimal(buffer, amount, income.getAmount().scale());
+        putBytes(buffer, source);
+        putDateTime(buffer, income.getDateTime());
+        buffer.put((byte) income.getStatus().ordinal());
+        return buffer.array();
+    }
+
+    @Override
+    public Income decode(ByteBuffer payload) {
+        return new Income(
+                getString(payload),
+                getString(payload),
+                getDecimal(payload),
+                getString(payload),
+                getDateTime(payload),
+                STATUSES[payload.get()]
+        );
+    }
+}
\ No newline at end of file
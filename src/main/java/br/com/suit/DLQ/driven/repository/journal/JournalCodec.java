@@ -0,0 +1,9 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import java.nio.ByteBuffer;
+
+public interface JournalCodec<T> {
+    byte[] encode(T value);
+
+    T decode(ByteBuffer payload);
+}
\ No newline at end of file
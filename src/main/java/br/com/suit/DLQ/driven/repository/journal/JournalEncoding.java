@@ -0,0 +1,62 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+final class JournalEncoding {
+
+    static final int DATE_TIME_SIZE = Long.BYTES + Integer.BYTES;
+
+    private JournalEncoding() {
+    }
+
+    static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int sizeOf(byte[] value) {
+        return Integer.BYTES + value.length;
+    }
+
+    static void putBytes(ByteBuffer buffer, byte[] value) {
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    static byte[] getBytes(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return value;
+    }
+
+    static String getString(ByteBuffer buffer) {
+        return new String(getBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    static byte[] unscaled(BigDecimal value) {
+        return value.unscaledValue().toByteArray();
+    }
+
+    static void putDecimal(ByteBuffer buffer, byte[] unscaled, int scale) {
+        putBytes(buffer, unscaled);
+        buffer.putInt(scale);
+    }
+
+    static BigDecimal getDecimal(ByteBuffer buffer) {
+        BigInteger unscaled = new BigInteger(getBytes(buffer));
+        return new BigDecimal(unscaled, buffer.getInt());
+    }
+
+    static void putDateTime(ByteBuffer buffer, LocalDateTime value) {
+        buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(value.getNano());
+    }
+
+    static LocalDateTime getDateTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
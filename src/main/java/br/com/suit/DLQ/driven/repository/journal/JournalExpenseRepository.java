@@ -0,0 +1,126 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.ports.outbound.ExpenseRepository;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import br.com.suit.DLQ.driven.repository.index.RecordIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+@ConditionalOnProperty(name = "processing.repository.type", havingValue = "journal")
+public class JournalExpenseRepository implements ExpenseRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalExpenseRepository.class);
+
+    // Cada valor guarda a sequência do seu registro no journal: o mapa segue a ordem do journal mesmo com
+    // saves concorrentes do mesmo id, e o estado após um restart é o mesmo de antes dele
+    private final Map<String, Journaled<Expense>> expenses = new ConcurrentHashMap<>();
+    private final RecordIndex<Expense> index = new RecordIndex<>(Expense::getId, Expense::getCategory,
+            expense -> expense.getStatus().name(), Expense::getDateTime);
+    private final List<RepositoryListener<Expense>> listeners;
+    private final ExpenseJournalCodec codec = new ExpenseJournalCodec();
+    private final MappedJournal journal;
+
+    public JournalExpenseRepository(@Value("${processing.repository.journal.directory}") String directory,
+                                    @Value("${processing.repository.journal.segment-size}") int segmentSize,
+                                    @Value("${processing.repository.journal.flush-interval}") long flushIntervalMillis,
+                                    @Value("${processing.repository.journal.compaction-ratio}") double compactionRatio,
+                                    List<RepositoryListener<Expense>> listeners) {
+        this.listeners = listeners;
+        this.journal = new MappedJournal(Path.of(directory, "expenses"), segmentSize,
+                TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+
+        // Reconstrói o índice em memória a partir do journal; o último registro de cada id prevalece
+        long startedAt = System.nanoTime();
+        // Registros recuperados têm sequência 0: qualquer save posterior prevalece sobre eles
+        long records = journal.replay(payload -> apply(codec.decode(payload), 0));
+        if (records > 0 && records > compactionRatio * expenses.size()) {
+            // Mais registros substituídos que vivos: o journal é reescrito só com o estado atual
+            journal.compact(() -> expenses.values().stream().map(entry -> codec.encode(entry.value())).iterator());
+        }
+        journal.open();
+        logger.info("Recovered {} expense journal records ({} expenses) in {} ms", records, expenses.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public void save(Expense expense) {
+        logger.debug("Saving expense: {}", expense.getId());
+        long sequence = journal.append(codec.encode(expense));
+        journal.awaitDurable(sequence);
+        apply(expense, sequence);
+    }
+
+    @Override
+    public void saveAll(List<Expense> expenses) {
+        logger.debug("Saving expense batch with {} items", expenses.size());
+        long[] sequences = new long[expenses.size()];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = journal.append(codec.encode(expenses.get(i)));
+        }
+        // Um único fsync cobre o lote inteiro
+        if (sequences.length > 0) {
+            journal.awaitDurable(sequences[sequences.length - 1]);
+        }
+        for (int i = 0; i < sequences.length; i++) {
+            apply(expenses.get(i), sequences[i]);
+        }
+    }
+
+    @Override
+    public Expense findById(String id) {
+        Journaled<Expense> entry = expenses.get(id);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public RecordPage<Expense> find(ExpenseQuery query) {
+        String status = query.getStatus() != null ? query.getStatus().name() : null;
+        return index.find(query.getCategory(), status, query.getFrom(), query.getTo(), query.getCursor(),
+                query.getLimit(), this::findById);
+    }
+
+    public Map<String, Expense> findAll() {
+        Map<String, Expense> snapshot = new HashMap<>(expenses.size());
+        expenses.forEach((id, entry) -> snapshot.put(id, entry.value()));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void close() {
+        journal.close();
+    }
+
+    // Atualização atômica por id: um registro mais antigo que o já aplicado é ignorado, e índice e listeners
+    // recebem as mudanças na mesma ordem do journal
+    private void apply(Expense expense, long sequence) {
+        expenses.compute(expense.getId(), (id, current) -> {
+            if (current != null && current.sequence() > sequence) {
+                return current;
+            }
+            notifySaved(current != null ? current.value() : null, expense);
+            return new Journaled<>(sequence, expense);
+        });
+    }
+
+    private void notifySaved(Expense previous, Expense current) {
+        index.update(previous, current);
+        for (RepositoryListener<Expense> listener : listeners) {
+            listener.onSave(previous, current);
+        }
+    }
+}
\ No newline at end of file
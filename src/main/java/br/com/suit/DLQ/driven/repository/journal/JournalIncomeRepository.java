@@ -0,0 +1,126 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.ports.outbound.IncomeRepository;
+import br.com.suit.DLQ.driven.repository.RepositoryListener;
+import br.com.suit.DLQ.driven.repository.index.RecordIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+@ConditionalOnProperty(name = "processing.repository.type", havingValue = "journal")
+public class JournalIncomeRepository implements IncomeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalIncomeRepository.class);
+
+    // Cada valor guarda a sequência do seu registro no journal: o mapa segue a ordem do journal mesmo com
+    // saves concorrentes do mesmo id, e o estado após um restart é o mesmo de antes dele
+    private final Map<String, Journaled<Income>> incomes = new ConcurrentHashMap<>();
+    private final RecordIndex<Income> index = new RecordIndex<>(Income::getId, Income::getSource,
+            income -> income.getStatus().name(), Income::getDateTime);
+    private final List<RepositoryListener<Income>> listeners;
+    private final IncomeJournalCodec codec = new IncomeJournalCodec();
+    private final MappedJournal journal;
+
+    public JournalIncomeRepository(@Value("${processing.repository.journal.directory}") String directory,
+                                    @Value("${processing.repository.journal.segment-size}") int segmentSize,
+                                    @Value("${processing.repository.journal.flush-interval}") long flushIntervalMillis,
+                                    @Value("${processing.repository.journal.compaction-ratio}") double compactionRatio,
+                                    List<RepositoryListener<Income>> listeners) {
+        this.listeners = listeners;
+        this.journal = new MappedJournal(Path.of(directory, "incomes"), segmentSize,
+                TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+
+        // Reconstrói o índice em memória a partir do journal; o último registro de cada id prevalece
+        long startedAt = System.nanoTime();
+        // Registros recuperados têm sequência 0: qualquer save posterior prevalece sobre eles
+        long records = journal.replay(payload -> apply(codec.decode(payload), 0));
+        if (records > 0 && records > compactionRatio * incomes.size()) {
+            // Mais registros substituídos que vivos: o journal é reescrito só com o estado atual
+            journal.compact(() -> incomes.values().stream().map(entry -> codec.encode(entry.value())).iterator());
+        }
+        journal.open();
+        logger.info("Recovered {} income journal records ({} incomes) in {} ms", records, incomes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public void save(Income income) {
+        logger.debug("Saving income: {}", income.getId());
+        long sequence = journal.append(codec.encode(income));
+        journal.awaitDurable(sequence);
+        apply(income, sequence);
+    }
+
+    @Override
+    public void saveAll(List<Income> incomes) {
+        logger.debug("Saving income batch with {} items", incomes.size());
+        long[] sequences = new long[incomes.size()];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = journal.append(codec.encode(incomes.get(i)));
+        }
+        // Um único fsync cobre o lote inteiro
+        if (sequences.length > 0) {
+            journal.awaitDurable(sequences[sequences.length - 1]);
+        }
+        for (int i = 0; i < sequences.length; i++) {
+            apply(incomes.get(i), sequences[i]);
+        }
+    }
+
+    @Override
+    public Income findById(String id) {
+        Journaled<Income> entry = incomes.get(id);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public RecordPage<Income> find(IncomeQuery query) {
+        String status = query.getStatus() != null ? query.getStatus().name() : null;
+        return index.find(query.getSource(), status, query.getFrom(), query.getTo(), query.getCursor(),
+                query.getLimit(), this::findById);
+    }
+
+    public Map<String, Income> findAll() {
+        Map<String, Income> snapshot = new HashMap<>(incomes.size());
+        incomes.forEach((id, entry) -> snapshot.put(id, entry.value()));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void close() {
+        journal.close();
+    }
+
+    // Atualização atômica por id: um registro mais antigo que o já aplicado é ignorado, e índice e listeners
+    // recebem as mudanças na mesma ordem do journal
+    private void apply(Income income, long sequence) {
+        incomes.compute(income.getId(), (id, current) -> {
+            if (current != null && current.sequence() > sequence) {
+                return current;
+            }
+            notifySaved(current != null ? current.value() : null, income);
+            return new Journaled<>(sequence, income);
+        });
+    }
+
+    private void notifySaved(Income previous, Income current) {
+        index.update(previous, current);
+        for (RepositoryListener<Income> listener : listeners) {
+            listener.onSave(previous, current);
+        }
+    }
+}
\ No newline at end of file
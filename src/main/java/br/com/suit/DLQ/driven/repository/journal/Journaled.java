@@ -0,0 +1,5 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+// Valor em memória junto da sequência do registro que o gravou no journal
+record Journaled<T>(long sequence, T value) {
+}
\ No newline at end of file
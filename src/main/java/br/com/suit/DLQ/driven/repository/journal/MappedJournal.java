@@ -0,0 +1,285 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class MappedJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedJournal.class);
+
+    // Cabeçalho de cada registro: tamanho do payload (int) + CRC32C do payload (int)
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final Thread flusher;
+
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private long writtenSequence;
+    private volatile long durableSequence;
+    private volatile boolean closed;
+
+    public MappedJournal(Path directory, int segmentSize, long flushIntervalNanos) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.flushIntervalNanos = flushIntervalNanos;
+        this.flusher = new Thread(this::flushLoop, "journal-flusher-" + directory.getFileName());
+        this.flusher.setDaemon(true);
+    }
+
+    // Lê todos os segmentos em ordem, entregando cada payload válido; deve ser chamado antes de open()
+    public long replay(Consumer<ByteBuffer> recordConsumer) {
+        long records = 0;
+        for (Path segmentPath : segmentPaths()) {
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                records += scan(segmentPath, buffer, recordConsumer).records();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to replay journal segment " + segmentPath, e);
+            }
+        }
+        return records;
+    }
+
+    // Reescreve só os registros vivos em segmentos novos e apaga os anteriores; chamado entre replay() e open().
+    // Uma queda no meio deixa os segmentos antigos antes da cópia, e o replay continua chegando ao mesmo estado
+    public synchronized void compact(Iterable<byte[]> liveRecords) {
+        List<Path> previousSegments = segmentPaths();
+        try {
+            Files.createDirectories(directory);
+            segmentIndex = nextSegmentIndex(previousSegments);
+            segment = mapSegment(segmentIndex);
+            for (byte[] payload : liveRecords) {
+                write(payload);
+            }
+            segment.force();
+            for (Path segmentPath : previousSegments) {
+                Files.delete(segmentPath);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact journal at " + directory, e);
+        }
+        logger.info("Journal {} compacted into segment {}, {} segments removed", directory, segmentIndex,
+                previousSegments.size());
+    }
+
+    public synchronized void open() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = segmentPaths();
+            segment = segments.isEmpty() ? null : reopenTail(segments.get(segments.size() - 1));
+            if (segment == null) {
+                segmentIndex = nextSegmentIndex(segments);
+                segment = mapSegment(segmentIndex);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal at " + directory, e);
+        }
+        flusher.start();
+    }
+
+    public synchronized long append(byte[] payload) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed: " + directory);
+        }
+        write(payload);
+        return ++writtenSequence;
+    }
+
+    // Group commit: o escritor aguarda o próximo fsync do flusher, compartilhado com os escritores concorrentes
+    public void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        synchronized (this) {
+            notifyAll();
+            while (durableSequence < sequence && !closed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for journal flush", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // Sem open() não há segmento mapeado nem nada a gravar
+            if (segment != null) {
+                segment.force();
+            }
+            durableSequence = writtenSequence;
+            notifyAll();
+        }
+        flusher.interrupt();
+    }
+
+    private void flushLoop() {
+        long flushIntervalMillis = Math.max(1, flushIntervalNanos / 1_000_000);
+        while (!closed) {
+            synchronized (this) {
+                while (writtenSequence == durableSequence && !closed) {
+                    try {
+                        wait(flushIntervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+
+            // Janela curta para que escritores concorrentes entrem no mesmo fsync
+            LockSupport.parkNanos(flushIntervalNanos);
+
+            MappedByteBuffer toFlush;
+            long sequence;
+            synchronized (this) {
+                toFlush = segment;
+                sequence = writtenSequence;
+            }
+
+            // fsync fora do lock: novos registros continuam sendo anexados durante o flush
+            toFlush.force();
+            synchronized (this) {
+                if (sequence > durableSequence) {
+                    durableSequence = sequence;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    private void write(byte[] payload) {
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds journal segment size");
+        }
+        if (segment.remaining() < recordSize) {
+            roll();
+        }
+        segment.putInt(payload.length);
+        segment.putInt(checksum(ByteBuffer.wrap(payload)));
+        segment.put(payload);
+    }
+
+    // Continua no último segmento quando ele termina de forma limpa e ainda tem espaço, para que cada restart não
+    // aloque um segmento novo. Um final corrompido não é reescrito: nesse caso começa um segmento novo
+    private MappedByteBuffer reopenTail(Path tailPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(tailPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() != segmentSize) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            SegmentScan scan = scan(tailPath, buffer, payload -> { });
+            if (!scan.clean() || segmentSize - scan.end() <= RECORD_HEADER_SIZE) {
+                return null;
+            }
+            buffer.position(scan.end());
+            segmentIndex = indexOf(tailPath);
+            return buffer;
+        }
+    }
+
+    private static SegmentScan scan(Path segmentPath, ByteBuffer buffer, Consumer<ByteBuffer> recordConsumer) {
+        long records = 0;
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length == 0 && checksum == 0) {
+                // Área ainda não escrita: fim limpo do segmento
+                return new SegmentScan(start, records, true);
+            }
+            if (length < 0 || length > buffer.remaining()) {
+                logger.warn("Corrupted journal record in {} at offset {}", segmentPath, start);
+                return new SegmentScan(start, records, false);
+            }
+            ByteBuffer payload = buffer.slice(buffer.position(), length);
+            if (checksum != checksum(payload)) {
+                // Escrita interrompida no fim do último segmento: o restante é descartado
+                logger.warn("Corrupted journal record in {} at offset {}", segmentPath, start);
+                return new SegmentScan(start, records, false);
+            }
+            recordConsumer.accept(payload);
+            buffer.position(buffer.position() + length);
+            records++;
+        }
+        return new SegmentScan(buffer.position(), records, true);
+    }
+
+    private void roll() {
+        try {
+            segment.force();
+            segmentIndex++;
+            segment = mapSegment(segmentIndex);
+            logger.info("Journal {} rolled to segment {}", directory, segmentIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll journal segment in " + directory, e);
+        }
+    }
+
+    private MappedByteBuffer mapSegment(long index) throws IOException {
+        Path path = directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private List<Path> segmentPaths() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list journal segments in " + directory, e);
+        }
+    }
+
+    private long nextSegmentIndex(List<Path> segments) {
+        return segments.isEmpty() ? 1 : indexOf(segments.get(segments.size() - 1)) + 1;
+    }
+
+    private long indexOf(Path segmentPath) {
+        String name = segmentPath.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private record SegmentScan(int end, long records, boolean clean) {
+    }
+}
\ No newline at end of file
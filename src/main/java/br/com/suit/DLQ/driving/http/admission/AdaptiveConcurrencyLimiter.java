@@ -0,0 +1,93 @@
+package br.com.suit.DLQ.driving.http.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Limite de concorrência AIMD guiado pela latência: cresce enquanto a latência fica próxima da linha de base
+// e é reduzido multiplicativamente quando ela se degrada ou quando há falhas
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int BASELINE_WINDOW_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private long baselineRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    private int samplesUntilDecrease;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release(long rttNanos, boolean success) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        update(rttNanos, success, inFlightAtRelease);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, boolean success, int inFlightAtRelease) {
+        if (samplesUntilDecrease > 0) {
+            samplesUntilDecrease--;
+        }
+        if (!success) {
+            decrease();
+            return;
+        }
+
+        // Linha de base: menor latência da janela atual ou da anterior, para acompanhar mudanças duradouras
+        baselineRttNanos = Math.min(baselineRttNanos, rttNanos);
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples >= BASELINE_WINDOW_SAMPLES) {
+            baselineRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        if (rttNanos > baselineRttNanos * latencyTolerance) {
+            decrease();
+        } else if (inFlightAtRelease * 2 >= estimatedLimit) {
+            // Só cresce quando o limite está de fato em uso; +1 a cada "limite" amostras, como no TCP
+            estimatedLimit = Math.min(maxLimit, estimatedLimit + 1.0 / estimatedLimit);
+            limit = (int) estimatedLimit;
+        }
+    }
+
+    // No máximo uma redução por janela de amostras: as respostas das requisições admitidas sob o limite anterior
+    // (até "limite" amostras) refletem o mesmo congestionamento, e uma rajada de falhas ou lentidão conta uma vez
+    private void decrease() {
+        if (samplesUntilDecrease > 0) {
+            return;
+        }
+        samplesUntilDecrease = limit;
+        estimatedLimit = Math.max(minLimit, estimatedLimit * BACKOFF_RATIO);
+        limit = (int) estimatedLimit;
+    }
+}
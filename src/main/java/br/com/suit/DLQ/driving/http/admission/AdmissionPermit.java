@@ -0,0 +1,37 @@
+package br.com.suit.DLQ.driving.http.admission;
+
+public class AdmissionPermit {
+
+    public enum Rejection {
+        CONCURRENCY_LIMIT,
+        QUEUE_DEPTH
+    }
+
+    static final AdmissionPermit CONCURRENCY_LIMIT_REJECTED = new AdmissionPermit(null, Rejection.CONCURRENCY_LIMIT);
+    static final AdmissionPermit QUEUE_DEPTH_REJECTED = new AdmissionPermit(null, Rejection.QUEUE_DEPTH);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Rejection rejection;
+    private final long startedAt;
+
+    AdmissionPermit(AdaptiveConcurrencyLimiter limiter, Rejection rejection) {
+        this.limiter = limiter;
+        this.rejection = rejection;
+        this.startedAt = System.nanoTime();
+    }
+
+    public boolean isAdmitted() {
+        return rejection == null;
+    }
+
+    public Rejection getRejection() {
+        return rejection;
+    }
+
+    // Devolve a permissão e alimenta o limitador com a latência observada da publicação
+    public void release(boolean success) {
+        if (limiter != null) {
+            limiter.release(System.nanoTime() - startedAt, success);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.suit.DLQ.driving.http.admission;
+
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class IngestAdmissionControl {
+
+    private static final Logger logger = LoggerFactory.getLogger(IngestAdmissionControl.class);
+
+    private final MessageTransport messageTransport;
+    private final Map<String, FlowAdmission> flows;
+    private final long queueDepthThreshold;
+    private final String retryAfterSeconds;
+    private final ScheduledExecutorService queueDepthPoller;
+
+    public IngestAdmissionControl(MessageTransport messageTransport, MessageFlowRegistry messageFlowRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${processing.admission.initial-limit}") int initialLimit,
+                                  @Value("${processing.admission.min-limit}") int minLimit,
+                                  @Value("${processing.admission.max-limit}") int maxLimit,
+                                  @Value("${processing.admission.latency-tolerance}") double latencyTolerance,
+                                  @Value("${processing.admission.queue-depth-threshold}") long queueDepthThreshold,
+                                  @Value("${processing.admission.queue-depth-poll-interval}") long pollIntervalMillis,
+                                  @Value("${processing.admission.retry-after}") int retryAfterSeconds) {
+        this.messageTransport = messageTransport;
+        this.queueDepthThreshold = queueDepthThreshold;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        // Um limitador por fluxo registrado: um novo MessageFlow já nasce com controle de admissão
+        Map<String, FlowAdmission> flows = new HashMap<>();
+        for (MessageFlow<?> flow : messageFlowRegistry.flows()) {
+            flows.put(flow.getName(), new FlowAdmission(flow.getName(),
+                    new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyTolerance), meterRegistry));
+        }
+        this.flows = Map.copyOf(flows);
+
+        // Profundidade das filas consultada em segundo plano: a decisão por requisição é só uma leitura volátil
+        this.queueDepthPoller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "queue-depth-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queueDepthPoller.scheduleWithFixedDelay(this::pollQueueDepths, pollIntervalMillis, pollIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    // A profundidade medida é a da fila padrão: o backlog dela não deve barrar a faixa prioritária
+    public AdmissionPermit tryAcquire(String flow, MessageLane lane) {
+        FlowAdmission admission = flows.get(flow);
+        if (admission == null) {
+            throw new IllegalArgumentException("Unknown message flow: " + flow);
+        }
+        if (lane == MessageLane.STANDARD && admission.queueDepth > queueDepthThreshold) {
+            admission.queueDepthRejections.increment();
+            return AdmissionPermit.QUEUE_DEPTH_REJECTED;
+        }
+        if (!admission.limiter.tryAcquire()) {
+            admission.concurrencyRejections.increment();
+            return AdmissionPermit.CONCURRENCY_LIMIT_REJECTED;
+        }
+        return new AdmissionPermit(admission.limiter, null);
+    }
+
+    // 429 quando o limite de concorrência é atingido; 503 quando a fila de destino está acima do limite
+    public <T> ResponseEntity<T> rejectionResponse(AdmissionPermit permit, T body) {
+        HttpStatus status = permit.getRejection() == AdmissionPermit.Rejection.QUEUE_DEPTH
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .body(body);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queueDepthPoller.shutdownNow();
+    }
+
+    private void pollQueueDepths() {
+        for (FlowAdmission admission : flows.values()) {
+            try {
+                admission.queueDepth = messageTransport.queueDepth(admission.flow);
+            } catch (Exception e) {
+                logger.debug("Could not read queue depth of flow {}", admission.flow, e);
+            }
+        }
+    }
+
+    private static final class FlowAdmission {
+        private final String flow;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Counter concurrencyRejections;
+        private final Counter queueDepthRejections;
+        private volatile long queueDepth;
+
+        private FlowAdmission(String flow, AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+            this.flow = flow;
+            this.limiter = limiter;
+            this.concurrencyRejections = Counter.builder("admission.rejected")
+                    .tag("flow", flow).tag("reason", "concurrency_limit").register(meterRegistry);
+            this.queueDepthRejections = Counter.builder("admission.rejected")
+                    .tag("flow", flow).tag("reason", "queue_depth").register(meterRegistry);
+            Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("flow", flow).register(meterRegistry);
+            Gauge.builder("admission.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("flow", flow).register(meterRegistry);
+        }
+    }
+}
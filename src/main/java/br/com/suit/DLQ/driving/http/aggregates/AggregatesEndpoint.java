@@ -0,0 +1,73 @@
+package br.com.suit.DLQ.driving.http.aggregates;
+
+import br.com.suit.DLQ.driven.aggregation.AggregateValue;
+import br.com.suit.DLQ.driven.aggregation.BucketGranularity;
+import br.com.suit.DLQ.driven.aggregation.ExpenseAggregates;
+import br.com.suit.DLQ.driven.aggregation.FinancialAggregates;
+import br.com.suit.DLQ.driven.aggregation.IncomeAggregates;
+import br.com.suit.DLQ.driven.aggregation.TimeBucketValue;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Leituras servidas a partir dos agregados incrementais, sem varrer os repositórios
+@RestController
+@RequestMapping("/api/aggregates")
+public class AggregatesEndpoint {
+
+    private final ExpenseAggregates expenseAggregates;
+    private final IncomeAggregates incomeAggregates;
+
+    public AggregatesEndpoint(ExpenseAggregates expenseAggregates, IncomeAggregates incomeAggregates) {
+        this.expenseAggregates = expenseAggregates;
+        this.incomeAggregates = incomeAggregates;
+    }
+
+    @GetMapping("/expenses")
+    public ResponseEntity<Map<String, Object>> expenseSummary() {
+        return ResponseEntity.ok(summary(expenseAggregates, "byCategory"));
+    }
+
+    @GetMapping("/expenses/categories/{category}")
+    public ResponseEntity<AggregateValue> expenseCategory(@PathVariable String category) {
+        return ResponseEntity.ok(expenseAggregates.group(category));
+    }
+
+    @GetMapping("/expenses/timeline")
+    public ResponseEntity<List<TimeBucketValue>> expenseTimeline(
+            @RequestParam(defaultValue = "HOUR") BucketGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(expenseAggregates.timeline(granularity, from, to));
+    }
+
+    @GetMapping("/incomes")
+    public ResponseEntity<Map<String, Object>> incomeSummary() {
+        return ResponseEntity.ok(summary(incomeAggregates, "bySource"));
+    }
+
+    @GetMapping("/incomes/sources/{source}")
+    public ResponseEntity<AggregateValue> incomeSource(@PathVariable String source) {
+        return ResponseEntity.ok(incomeAggregates.group(source));
+    }
+
+    @GetMapping("/incomes/timeline")
+    public ResponseEntity<List<TimeBucketValue>> incomeTimeline(
+            @RequestParam(defaultValue = "HOUR") BucketGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(incomeAggregates.timeline(granularity, from, to));
+    }
+
+    private Map<String, Object> summary(FinancialAggregates<?> aggregates, String groupsField) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", aggregates.total());
+        summary.put(groupsField, aggregates.groups());
+        return summary;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.suit.DLQ.driving.http.dlq;
+
+import br.com.suit.DLQ.driven.messaging.analytics.DlqFailureAnalytics;
+import br.com.suit.DLQ.driven.messaging.analytics.FailureAnalyticsSnapshot;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dlq/analytics")
+public class DlqAnalyticsEndpoint {
+
+    private final DlqFailureAnalytics dlqFailureAnalytics;
+
+    public DlqAnalyticsEndpoint(DlqFailureAnalytics dlqFailureAnalytics) {
+        this.dlqFailureAnalytics = dlqFailureAnalytics;
+    }
+
+    @GetMapping
+    public ResponseEntity<FailureAnalyticsSnapshot> analytics() {
+        return ResponseEntity.ok(dlqFailureAnalytics.snapshot());
+    }
+}
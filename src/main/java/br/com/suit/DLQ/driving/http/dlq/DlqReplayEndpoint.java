@@ -0,0 +1,83 @@
+package br.com.suit.DLQ.driving.http.dlq;
+
+import br.com.suit.DLQ.driven.messaging.replay.DlqReplayService;
+import br.com.suit.DLQ.driven.messaging.replay.ReplayJob;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+@RestController
+@RequestMapping("/api/dlq/replays")
+public class DlqReplayEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(DlqReplayEndpoint.class);
+
+    private final DlqReplayService dlqReplayService;
+
+    public DlqReplayEndpoint(DlqReplayService dlqReplayService) {
+        this.dlqReplayService = dlqReplayService;
+    }
+
+    @PostMapping("/{flow}")
+    public ResponseEntity<?> startReplay(@PathVariable String flow,
+                                         @Valid @RequestBody(required = false) ReplayRequest request) {
+        ReplayRequest replayRequest = request != null ? request : new ReplayRequest();
+        logger.info("Received DLQ replay request for {}: {}", flow, replayRequest);
+
+        try {
+            ReplayJob job = dlqReplayService.start(flow, replayRequest.getErrorType(), replayRequest.getMaxMessages(),
+                    replayRequest.getRatePerSecond(), replayRequest.getParallelism());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error starting DLQ replay for {}", flow, e);
+            return ResponseEntity.internalServerError().body("Error starting replay: " + e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<Collection<ReplayJob>> listReplays() {
+        return ResponseEntity.ok(dlqReplayService.findAll());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReplayJob> getReplay(@PathVariable String jobId) {
+        ReplayJob job = dlqReplayService.find(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{jobId}/pause")
+    public ResponseEntity<ReplayJob> pauseReplay(@PathVariable String jobId) {
+        return control(jobId, ReplayJob::pause);
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ReplayJob> resumeReplay(@PathVariable String jobId) {
+        return control(jobId, ReplayJob::resume);
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<ReplayJob> cancelReplay(@PathVariable String jobId) {
+        return control(jobId, ReplayJob::cancel);
+    }
+
+    private ResponseEntity<ReplayJob> control(String jobId, Predicate<ReplayJob> action) {
+        ReplayJob job = dlqReplayService.find(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Transição inválida para o estado atual (ex.: retomar um job já concluído)
+        if (!action.test(job)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(job);
+        }
+        logger.info("DLQ replay {} is now {}", jobId, job.getStatus());
+        return ResponseEntity.ok(job);
+    }
+}
\ No newline at end of file
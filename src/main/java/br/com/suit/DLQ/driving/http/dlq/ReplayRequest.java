@@ -0,0 +1,61 @@
+package br.com.suit.DLQ.driving.http.dlq;
+
+import jakarta.validation.constraints.Positive;
+
+public class ReplayRequest {
+
+    private String errorType;
+
+    @Positive(message = "Max messages must be positive")
+    private Long maxMessages;
+
+    @Positive(message = "Rate per second must be positive")
+    private Double ratePerSecond;
+
+    @Positive(message = "Parallelism must be positive")
+    private Integer parallelism;
+
+    public ReplayRequest() {}
+
+    public String getErrorType() {
+        return errorType;
+    }
+
+    public void setErrorType(String errorType) {
+        this.errorType = errorType;
+    }
+
+    public Long getMaxMessages() {
+        return maxMessages;
+    }
+
+    public void setMaxMessages(Long maxMessages) {
+        this.maxMessages = maxMessages;
+    }
+
+    public Double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(Double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayRequest{" +
+                "errorType='" + errorType + '\'' +
+                ", maxMessages=" + maxMessages +
+                ", ratePerSecond=" + ratePerSecond +
+                ", parallelism=" + parallelism +
+                '}';
+    }
+}
\ No newline at end of file
@@ -1,17 +1,30 @@
 package br.com.suit.DLQ.driving.http.finances.expense;
 
 import br.com.suit.DLQ.application.commands.RecordExpense;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import br.com.suit.DLQ.application.domain.ExpenseStatus;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.ports.inbound.ExpenseQueryUseCase;
+import br.com.suit.DLQ.application.ports.outbound.AuditLog;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.config.FinancialFlowsConfig;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import br.com.suit.DLQ.driving.http.admission.AdmissionPermit;
+import br.com.suit.DLQ.driving.http.admission.IngestAdmissionControl;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/expenses")
@@ -19,23 +32,42 @@ public class ExpenseEndpoint {
 
     private static final Logger logger = LoggerFactory.getLogger(ExpenseEndpoint.class);
 
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String MESSAGE_TYPE = "EXPENSE";
 
-    @Value("${rabbitmq.queues.expense.exchange}")
-    private String expenseExchangeName;
+    private final MessageTransport messageTransport;
+    private final ExpenseQueryUseCase expenseQueryUseCase;
+    private final PipelineMetrics pipelineMetrics;
+    private final IngestAdmissionControl ingestAdmissionControl;
+    private final AuditLog auditLog;
+    private final MessageFlowRegistry messageFlowRegistry;
 
-    @Value("${rabbitmq.queues.expense.routing-key}")
-    private String expenseRoutingKey;
-
-    public ExpenseEndpoint(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
-        this.rabbitTemplate = rabbitTemplate;
-        this.objectMapper = objectMapper;
+    public ExpenseEndpoint(MessageTransport messageTransport, ExpenseQueryUseCase expenseQueryUseCase,
+                           PipelineMetrics pipelineMetrics, IngestAdmissionControl ingestAdmissionControl,
+                           AuditLog auditLog, MessageFlowRegistry messageFlowRegistry) {
+        this.messageTransport = messageTransport;
+        this.expenseQueryUseCase = expenseQueryUseCase;
+        this.pipelineMetrics = pipelineMetrics;
+        this.ingestAdmissionControl = ingestAdmissionControl;
+        this.auditLog = auditLog;
+        this.messageFlowRegistry = messageFlowRegistry;
     }
 
     @PostMapping
-    public ResponseEntity<String> recordExpense(@Valid @RequestBody Request request) {
-        logger.info("Received expense request: {}", request);
+    public CompletableFuture<ResponseEntity<String>> recordExpense(@Valid @RequestBody Request request) {
+        // Faixa decidida pelo valor e pela categoria: transações prioritárias não esperam atrás do backlog
+        MessageLane lane = messageFlowRegistry.lane(FinancialFlowsConfig.EXPENSE_FLOW, request.getAmount(),
+                request.getCategory());
+
+        // Rejeição imediata sob sobrecarga, antes de ocupar a thread com a publicação
+        AdmissionPermit permit = ingestAdmissionControl.tryAcquire(FinancialFlowsConfig.EXPENSE_FLOW, lane);
+        if (!permit.isAdmitted()) {
+            logger.debug("Expense request rejected: {}", permit.getRejection());
+            return CompletableFuture.completedFuture(
+                    ingestAdmissionControl.rejectionResponse(permit, "Expense ingest is overloaded, retry later"));
+        }
+
+        logger.debug("Received expense request on {} lane: {}", lane.getTagValue(), request);
 
         try {
             // Criar comando com ID único
@@ -48,22 +80,63 @@ public class ExpenseEndpoint {
                     LocalDateTime.now()
             );
 
-            // Serializar e enviar para a fila
-            String message = objectMapper.writeValueAsString(recordExpense);
-            rabbitTemplate.convertAndSend(expenseExchangeName, expenseRoutingKey, message);
-
-            logger.info("Expense message sent to queue: {}", expenseId);
-            return ResponseEntity.ok("Expense recorded with ID: " + expenseId);
+            // Serializar e enviar para a fila; a resposta só é concluída após a confirmação do transporte
+            long startedAt = System.nanoTime();
+            return messageTransport.publish(FinancialFlowsConfig.EXPENSE_FLOW, recordExpense, lane)
+                    .whenComplete((ignored, e) -> {
+                        long durationNanos = System.nanoTime() - startedAt;
+                        permit.release(e == null);
+                        pipelineMetrics.record(PipelineMetrics.Stage.HTTP_PUBLISH, MESSAGE_TYPE, e == null, durationNanos);
+                        auditLog.record(expenseId, MESSAGE_TYPE, PipelineMetrics.Stage.HTTP_PUBLISH, e == null, durationNanos);
+                    })
+                    .thenApply(ignored -> {
+                        logger.debug("Expense message confirmed by transport: {}", expenseId);
+                        return ResponseEntity.ok("Expense recorded with ID: " + expenseId);
+                    })
+                    .exceptionally(e -> errorResponse(unwrap(e)));
 
         } catch (Exception e) {
-            logger.error("Error sending expense message to queue", e);
-            return ResponseEntity.internalServerError()
-                    .body("Error recording expense: " + e.getMessage());
+            permit.release(false);
+            return CompletableFuture.completedFuture(errorResponse(e));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<?> findExpenses(@RequestParam(required = false) String category,
+                                          @RequestParam(required = false) ExpenseStatus status,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(defaultValue = "100") int limit) {
+        if (limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("Limit must not exceed " + MAX_PAGE_SIZE);
         }
+        try {
+            RecordPage<Expense> page = expenseQueryUseCase.findExpenses(new ExpenseQuery(category, status, from, to, cursor, limit));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Expense> findExpense(@PathVariable String id) {
+        Expense expense = expenseQueryUseCase.findExpense(id);
+        return expense != null ? ResponseEntity.ok(expense) : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Expense endpoint is healthy");
     }
+
+    private ResponseEntity<String> errorResponse(Throwable e) {
+        logger.error("Error sending expense message to queue", e);
+        return ResponseEntity.internalServerError()
+                .body("Error recording expense: " + e.getMessage());
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
 }
\ No newline at end of file
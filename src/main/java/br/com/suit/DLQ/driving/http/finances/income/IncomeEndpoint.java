@@ -1,17 +1,30 @@
 package br.com.suit.DLQ.driving.http.finances.income;
 
 import br.com.suit.DLQ.application.commands.RecordIncome;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.suit.DLQ.application.domain.Income;
+import br.com.suit.DLQ.application.domain.IncomeQuery;
+import br.com.suit.DLQ.application.domain.IncomeStatus;
+import br.com.suit.DLQ.application.domain.RecordPage;
+import br.com.suit.DLQ.application.ports.inbound.IncomeQueryUseCase;
+import br.com.suit.DLQ.application.ports.outbound.AuditLog;
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import br.com.suit.DLQ.driven.messaging.config.FinancialFlowsConfig;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlowRegistry;
+import br.com.suit.DLQ.driven.messaging.flow.MessageLane;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
+import br.com.suit.DLQ.driving.http.admission.AdmissionPermit;
+import br.com.suit.DLQ.driving.http.admission.IngestAdmissionControl;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/incomes")
@@ -19,23 +32,42 @@ public class IncomeEndpoint {
 
     private static final Logger logger = LoggerFactory.getLogger(IncomeEndpoint.class);
 
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String MESSAGE_TYPE = "INCOME";
 
-    @Value("${rabbitmq.queues.income.exchange}")
-    private String incomeExchangeName;
+    private final MessageTransport messageTransport;
+    private final IncomeQueryUseCase incomeQueryUseCase;
+    private final PipelineMetrics pipelineMetrics;
+    private final IngestAdmissionControl ingestAdmissionControl;
+    private final AuditLog auditLog;
+    private final MessageFlowRegistry messageFlowRegistry;
 
-    @Value("${rabbitmq.queues.income.routing-key}")
-    private String incomeRoutingKey;
-
-    public IncomeEndpoint(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
-        this.rabbitTemplate = rabbitTemplate;
-        this.objectMapper = objectMapper;
+    public IncomeEndpoint(MessageTransport messageTransport, IncomeQueryUseCase incomeQueryUseCase,
+                          PipelineMetrics pipelineMetrics, IngestAdmissionControl ingestAdmissionControl,
+                          AuditLog auditLog, MessageFlowRegistry messageFlowRegistry) {
+        this.messageTransport = messageTransport;
+        this.incomeQueryUseCase = incomeQueryUseCase;
+        this.pipelineMetrics = pipelineMetrics;
+        this.ingestAdmissionControl = ingestAdmissionControl;
+        this.auditLog = auditLog;
+        this.messageFlowRegistry = messageFlowRegistry;
     }
 
     @PostMapping
-    public ResponseEntity<String> recordIncome(@Valid @RequestBody Request request) {
-        logger.info("Received income request: {}", request);
+    public CompletableFuture<ResponseEntity<String>> recordIncome(@Valid @RequestBody Request request) {
+        // Faixa decidida pelo valor e pela origem: transações prioritárias não esperam atrás do backlog
+        MessageLane lane = messageFlowRegistry.lane(FinancialFlowsConfig.INCOME_FLOW, request.getAmount(),
+                request.getSource());
+
+        // Rejeição imediata sob sobrecarga, antes de ocupar a thread com a publicação
+        AdmissionPermit permit = ingestAdmissionControl.tryAcquire(FinancialFlowsConfig.INCOME_FLOW, lane);
+        if (!permit.isAdmitted()) {
+            logger.debug("Income request rejected: {}", permit.getRejection());
+            return CompletableFuture.completedFuture(
+                    ingestAdmissionControl.rejectionResponse(permit, "Income ingest is overloaded, retry later"));
+        }
+
+        logger.debug("Received income request on {} lane: {}", lane.getTagValue(), request);
 
         try {
             // Criar comando com ID único
@@ -48,22 +80,63 @@ public class IncomeEndpoint {
                     LocalDateTime.now()
             );
 
-            // Serializar e enviar para a fila
-            String message = objectMapper.writeValueAsString(recordIncome);
-            rabbitTemplate.convertAndSend(incomeExchangeName, incomeRoutingKey, message);
-
-            logger.info("Income message sent to queue: {}", incomeId);
-            return ResponseEntity.ok("Income recorded with ID: " + incomeId);
+            // Serializar e enviar para a fila; a resposta só é concluída após a confirmação do transporte
+            long startedAt = System.nanoTime();
+            return messageTransport.publish(FinancialFlowsConfig.INCOME_FLOW, recordIncome, lane)
+                    .whenComplete((ignored, e) -> {
+                        long durationNanos = System.nanoTime() - startedAt;
+                        permit.release(e == null);
+                        pipelineMetrics.record(PipelineMetrics.Stage.HTTP_PUBLISH, MESSAGE_TYPE, e == null, durationNanos);
+                        auditLog.record(incomeId, MESSAGE_TYPE, PipelineMetrics.Stage.HTTP_PUBLISH, e == null, durationNanos);
+                    })
+                    .thenApply(ignored -> {
+                        logger.debug("Income message confirmed by transport: {}", incomeId);
+                        return ResponseEntity.ok("Income recorded with ID: " + incomeId);
+                    })
+                    .exceptionally(e -> errorResponse(unwrap(e)));
 
         } catch (Exception e) {
-            logger.error("Error sending income message to queue", e);
-            return ResponseEntity.internalServerError()
-                    .body("Error recording income: " + e.getMessage());
+            permit.release(false);
+            return CompletableFuture.completedFuture(errorResponse(e));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<?> findIncomes(@RequestParam(required = false) String source,
+                                         @RequestParam(required = false) IncomeStatus status,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "100") int limit) {
+        if (limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("Limit must not exceed " + MAX_PAGE_SIZE);
         }
+        try {
+            RecordPage<Income> page = incomeQueryUseCase.findIncomes(new IncomeQuery(source, status, from, to, cursor, limit));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Income> findIncome(@PathVariable String id) {
+        Income income = incomeQueryUseCase.findIncome(id);
+        return income != null ? ResponseEntity.ok(income) : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Income endpoint is healthy");
     }
+
+    private ResponseEntity<String> errorResponse(Throwable e) {
+        logger.error("Error sending income message to queue", e);
+        return ResponseEntity.internalServerError()
+                .body("Error recording income: " + e.getMessage());
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
 }
\ No newline at end of file
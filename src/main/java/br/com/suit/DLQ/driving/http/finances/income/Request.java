@@ -1,5 +1,6 @@
 package br.com.suit.DLQ.driving.http.finances.income;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -13,6 +14,8 @@ public class Request {
     
     @NotNull(message = "Amount is required")
     @Positive(message = "Amount must be positive")
+    // Valores são armazenados em centavos: mais de duas casas decimais é rejeitado aqui, e não no consumer
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most 15 integer digits and 2 decimal places")
     private BigDecimal amount;
     
     @NotBlank(message = "Source is required")
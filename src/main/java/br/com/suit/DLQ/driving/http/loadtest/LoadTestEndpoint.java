@@ -0,0 +1,67 @@
+package br.com.suit.DLQ.driving.http.loadtest;
+
+import br.com.suit.DLQ.driven.loadtest.LoadTestJob;
+import br.com.suit.DLQ.driven.loadtest.LoadTestService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+
+@RestController
+@RequestMapping("/api/load-tests")
+public class LoadTestEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestEndpoint.class);
+
+    private final LoadTestService loadTestService;
+
+    public LoadTestEndpoint(LoadTestService loadTestService) {
+        this.loadTestService = loadTestService;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> startLoadTest(@Valid @RequestBody LoadTestRequest request) {
+        logger.info("Received load test request: {}", request);
+
+        try {
+            LoadTestJob job = loadTestService.start(request.getRatePerSecond(), request.getDurationSeconds(),
+                    request.getErrorRatio(), request.getExpenseRatio(), request.getMinPayloadBytes(),
+                    request.getMaxPayloadBytes());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error starting load test", e);
+            return ResponseEntity.internalServerError().body("Error starting load test: " + e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<Collection<LoadTestJob>> listLoadTests() {
+        return ResponseEntity.ok(loadTestService.findAll());
+    }
+
+    // Relatório parcial durante a execução e final após a drenagem
+    @GetMapping("/{jobId}")
+    public ResponseEntity<LoadTestJob> getLoadTest(@PathVariable String jobId) {
+        LoadTestJob job = loadTestService.find(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<LoadTestJob> cancelLoadTest(@PathVariable String jobId) {
+        LoadTestJob job = loadTestService.find(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!job.cancel()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(job);
+        }
+        logger.info("Load test {} cancelled", jobId);
+        return ResponseEntity.ok(job);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package br.com.suit.DLQ.driving.http.loadtest;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class LoadTestRequest {
+
+    @NotNull(message = "Rate per second is required")
+    @Positive(message = "Rate per second must be positive")
+    private Double ratePerSecond;
+
+    @NotNull(message = "Duration is required")
+    @Positive(message = "Duration must be positive")
+    private Integer durationSeconds;
+
+    @DecimalMin(value = "0.0", message = "Error ratio must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Error ratio must be between 0 and 1")
+    private double errorRatio = 0.0;
+
+    @DecimalMin(value = "0.0", message = "Expense ratio must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "Expense ratio must be between 0 and 1")
+    private double expenseRatio = 0.5;
+
+    @Positive(message = "Min payload bytes must be positive")
+    private int minPayloadBytes = 32;
+
+    @Positive(message = "Max payload bytes must be positive")
+    private int maxPayloadBytes = 256;
+
+    public LoadTestRequest() {}
+
+    public Double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(Double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public Integer getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(Integer durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public double getErrorRatio() {
+        return errorRatio;
+    }
+
+    public void setErrorRatio(double errorRatio) {
+        this.errorRatio = errorRatio;
+    }
+
+    public double getExpenseRatio() {
+        return expenseRatio;
+    }
+
+    public void setExpenseRatio(double expenseRatio) {
+        this.expenseRatio = expenseRatio;
+    }
+
+    public int getMinPayloadBytes() {
+        return minPayloadBytes;
+    }
+
+    public void setMinPayloadBytes(int minPayloadBytes) {
+        this.minPayloadBytes = minPayloadBytes;
+    }
+
+    public int getMaxPayloadBytes() {
+        return maxPayloadBytes;
+    }
+
+    public void setMaxPayloadBytes(int maxPayloadBytes) {
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadTestRequest{" +
+                "ratePerSecond=" + ratePerSecond +
+                ", durationSeconds=" + durationSeconds +
+                ", errorRatio=" + errorRatio +
+                ", expenseRatio=" + expenseRatio +
+                ", minPayloadBytes=" + minPayloadBytes +
+                ", maxPayloadBytes=" + maxPayloadBytes +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package br.com.suit.DLQ.driving.http.rules;
+
+import br.com.suit.DLQ.application.rules.RuleSetDefinition;
+import br.com.suit.DLQ.application.rules.ValidationRuleEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Recarga das regras de validação em tempo de execução, sem reiniciar a aplicação
+@RestController
+@RequestMapping("/api/validation/rules")
+public class ValidationRulesEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationRulesEndpoint.class);
+
+    private final ValidationRuleEngine validationRuleEngine;
+
+    public ValidationRulesEndpoint(ValidationRuleEngine validationRuleEngine) {
+        this.validationRuleEngine = validationRuleEngine;
+    }
+
+    @GetMapping("/expense")
+    public ResponseEntity<RuleSetDefinition> getExpenseRules() {
+        return ResponseEntity.ok(validationRuleEngine.getExpenseRules());
+    }
+
+    @GetMapping("/income")
+    public ResponseEntity<RuleSetDefinition> getIncomeRules() {
+        return ResponseEntity.ok(validationRuleEngine.getIncomeRules());
+    }
+
+    @PutMapping("/expense")
+    public ResponseEntity<?> updateExpenseRules(@RequestBody RuleSetDefinition definition) {
+        logger.info("Received expense validation rules update: {}", definition);
+        try {
+            validationRuleEngine.updateExpenseRules(definition);
+            return ResponseEntity.ok(validationRuleEngine.getExpenseRules());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/income")
+    public ResponseEntity<?> updateIncomeRules(@RequestBody RuleSetDefinition definition) {
+        logger.info("Received income validation rules update: {}", definition);
+        try {
+            validationRuleEngine.updateIncomeRules(definition);
+            return ResponseEntity.ok(validationRuleEngine.getIncomeRules());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
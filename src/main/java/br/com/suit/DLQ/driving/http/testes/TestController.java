@@ -2,11 +2,10 @@ package br.com.suit.DLQ.driving.http.testes;
 
 import br.com.suit.DLQ.application.commands.RecordExpense;
 import br.com.suit.DLQ.application.commands.RecordIncome;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.suit.DLQ.driven.messaging.config.FinancialFlowsConfig;
+import br.com.suit.DLQ.driven.messaging.transport.MessageTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,24 +20,10 @@ public class TestController {
 
     private static final Logger logger = LoggerFactory.getLogger(TestController.class);
 
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final MessageTransport messageTransport;
 
-    @Value("${rabbitmq.queues.expense.exchange}")
-    private String expenseExchangeName;
-
-    @Value("${rabbitmq.queues.expense.routing-key}")
-    private String expenseRoutingKey;
-
-    @Value("${rabbitmq.queues.income.exchange}")
-    private String incomeExchangeName;
-
-    @Value("${rabbitmq.queues.income.routing-key}")
-    private String incomeRoutingKey;
-
-    public TestController(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
-        this.rabbitTemplate = rabbitTemplate;
-        this.objectMapper = objectMapper;
+    public TestController(MessageTransport messageTransport) {
+        this.messageTransport = messageTransport;
     }
 
     @PostMapping("/expense/success")
@@ -53,8 +38,7 @@ public class TestController {
                     LocalDateTime.now()
             );
 
-            String message = objectMapper.writeValueAsString(recordExpense);
-            rabbitTemplate.convertAndSend(expenseExchangeName, expenseRoutingKey, message);
+            messageTransport.publish(FinancialFlowsConfig.EXPENSE_FLOW, recordExpense).join();
 
             return ResponseEntity.ok("Expense test message sent: " + expenseId);
         } catch (Exception e) {
@@ -75,8 +59,7 @@ public class TestController {
                     LocalDateTime.now()
             );
 
-            String message = objectMapper.writeValueAsString(recordExpense);
-            rabbitTemplate.convertAndSend(expenseExchangeName, expenseRoutingKey, message);
+            messageTransport.publish(FinancialFlowsConfig.EXPENSE_FLOW, recordExpense).join();
 
             return ResponseEntity.ok("Expense error test message sent: " + expenseId);
         } catch (Exception e) {
@@ -97,8 +80,7 @@ public class TestController {
                     LocalDateTime.now()
             );
 
-            String message = objectMapper.writeValueAsString(recordIncome);
-            rabbitTemplate.convertAndSend(incomeExchangeName, incomeRoutingKey, message);
+            messageTransport.publish(FinancialFlowsConfig.INCOME_FLOW, recordIncome).join();
 
             return ResponseEntity.ok("Income test message sent: " + incomeId);
         } catch (Exception e) {
@@ -119,8 +101,7 @@ public class TestController {
                     LocalDateTime.now()
             );
 
-            String message = objectMapper.writeValueAsString(recordIncome);
-            rabbitTemplate.convertAndSend(incomeExchangeName, incomeRoutingKey, message);
+            messageTransport.publish(FinancialFlowsConfig.INCOME_FLOW, recordIncome).join();
 
             return ResponseEntity.ok("Income error test message sent: " + incomeId);
         } catch (Exception e) {
@@ -0,0 +1,76 @@
+package br.com.suit.DLQ.application.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordMatcherTest {
+
+	@Test
+	void matchesKeywordAnywhereInText() {
+		KeywordMatcher matcher = KeywordMatcher.compile(List.of("erro", "error"));
+
+		assertTrue(matcher.matches("erro"));
+		assertTrue(matcher.matches("Compra com erro no sistema"));
+		assertTrue(matcher.matches("unexpected error"));
+		assertFalse(matcher.matches("Compra de materiais"));
+		assertFalse(matcher.matches("err"));
+		assertFalse(matcher.matches(""));
+	}
+
+	@Test
+	void ignoresCase() {
+		KeywordMatcher matcher = KeywordMatcher.compile(List.of("Cassino"));
+
+		assertTrue(matcher.matches("CASSINO online"));
+		assertTrue(matcher.matches("aposta no cassino"));
+	}
+
+	@Test
+	void followsFailureLinksBetweenOverlappingKeywords() {
+		// "she" só é encontrado depois de abandonar o prefixo "he" de "hers"
+		KeywordMatcher matcher = KeywordMatcher.compile(List.of("hers", "she"));
+
+		assertTrue(matcher.matches("ushe"));
+		assertTrue(matcher.matches("ahhers"));
+		assertFalse(matcher.matches("her"));
+	}
+
+	@Test
+	void matchesKeywordThatIsSuffixOfAnother() {
+		KeywordMatcher matcher = KeywordMatcher.compile(List.of("abcd", "bc"));
+
+		assertTrue(matcher.matches("xabcx"), "A keyword reached only through a failure link must match");
+	}
+
+	@Test
+	void matchesNothingWithoutKeywords() {
+		assertFalse(KeywordMatcher.compile(List.of()).matches("qualquer texto"));
+		assertFalse(KeywordMatcher.compile(Arrays.asList(null, " ", "")).matches("qualquer texto"));
+	}
+
+	@Test
+	void agreesWithNaiveContains() {
+		List<String> keywords = List.of("ab", "bab", "aab", "bbb", "ba");
+		KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+		Random random = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			StringBuilder text = new StringBuilder();
+			int length = random.nextInt(8);
+			for (int j = 0; j < length; j++) {
+				text.append(random.nextBoolean() ? 'a' : 'B');
+			}
+			String lowerCase = text.toString().toLowerCase(Locale.ROOT);
+			boolean expected = keywords.stream().anyMatch(lowerCase::contains);
+
+			assertEquals(expected, matcher.matches(text), "Text: " + text);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package br.com.suit.DLQ.driven.audit;
+
+import br.com.suit.DLQ.application.ports.outbound.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferAuditLogTest {
+
+	private static final PipelineMetrics.Stage[] STAGES = {PipelineMetrics.Stage.DESERIALIZE,
+			PipelineMetrics.Stage.VALIDATE, PipelineMetrics.Stage.REPOSITORY_SAVE};
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void shutdownDrainsEveryRecordedEntry() throws Exception {
+		RingBufferAuditLog auditLog = auditLog(1.0, false, 65_536);
+		for (int i = 0; i < 10_000; i++) {
+			auditLog.record("expense-" + i, "EXPENSE", PipelineMetrics.Stage.VALIDATE, true, 1_000);
+		}
+		auditLog.shutdown();
+
+		assertEquals(10_000, lines().size());
+	}
+
+	@Test
+	void samplesAllStagesOfTheSameMessage() throws Exception {
+		RingBufferAuditLog auditLog = auditLog(0.5, false, 65_536);
+		int messages = 2_000;
+		for (int i = 0; i < messages; i++) {
+			for (PipelineMetrics.Stage stage : STAGES) {
+				auditLog.record("expense-" + i, "EXPENSE", stage, true, 1_000);
+			}
+		}
+		auditLog.shutdown();
+
+		Map<String, Integer> stagesPerMessage = new HashMap<>();
+		for (String line : lines()) {
+			stagesPerMessage.merge(messageId(line), 1, Integer::sum);
+		}
+		stagesPerMessage.values().forEach(stages -> assertEquals(STAGES.length, stages.intValue()));
+		// Amostragem por hash do id: a fração amostrada fica próxima da configurada
+		int sampled = stagesPerMessage.size();
+		assertTrue(sampled > messages * 0.4 && sampled < messages * 0.6, "Sampled messages: " + sampled);
+	}
+
+	@Test
+	void recordsFailuresOutsideTheSample() throws Exception {
+		RingBufferAuditLog auditLog = auditLog(0.0, true, 1_024);
+		for (int i = 0; i < 100; i++) {
+			auditLog.record("income-" + i, "INCOME", PipelineMetrics.Stage.VALIDATE, i % 10 != 0, 1_000);
+		}
+		auditLog.shutdown();
+
+		List<String> lines = lines();
+		assertEquals(10, lines.size());
+		lines.forEach(line -> assertTrue(line.contains("failure"), line));
+	}
+
+	@Test
+	void skipsUnsampledFailuresWhenDisabled() throws Exception {
+		RingBufferAuditLog auditLog = auditLog(0.0, false, 1_024);
+		for (int i = 0; i < 100; i++) {
+			auditLog.record("income-" + i, "INCOME", PipelineMetrics.Stage.VALIDATE, false, 1_000);
+		}
+		auditLog.shutdown();
+
+		assertEquals(0, lines().size());
+	}
+
+	@Test
+	void accountsForEveryRecordUnderConcurrentProducers() throws Exception {
+		// Buffer mínimo: parte dos registros é descartada, e cada um é escrito ou contado como descartado
+		RingBufferAuditLog auditLog = auditLog(1.0, false, 2);
+		int producers = 4;
+		int recordsPerProducer = 5_000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			String prefix = "producer-" + p + "-";
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < recordsPerProducer; i++) {
+					auditLog.record(prefix + i, "EXPENSE", PipelineMetrics.Stage.REPOSITORY_SAVE, true, i);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		auditLog.shutdown();
+
+		long dropped = (long) meterRegistry.get("audit.dropped").counter().count();
+		assertEquals(producers * recordsPerProducer, lines().size() + dropped);
+	}
+
+	@Test
+	void disabledLogWritesNothing() throws Exception {
+		RingBufferAuditLog auditLog = new RingBufferAuditLog(meterRegistry, false, 1.0, true, 1_024,
+				directory.toString(), 64L << 20, 10, 1);
+		auditLog.record("expense-1", "EXPENSE", PipelineMetrics.Stage.VALIDATE, false, 1_000);
+		auditLog.shutdown();
+
+		assertEquals(0, lines().size());
+	}
+
+	private RingBufferAuditLog auditLog(double sampleRate, boolean recordFailures, int bufferSize) {
+		return new RingBufferAuditLog(meterRegistry, true, sampleRate, recordFailures, bufferSize,
+				directory.toString(), 64L << 20, 10, 1);
+	}
+
+	private List<String> lines() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (Stream<Path> files = Files.list(directory); PrintStream out = new PrintStream(output, true,
+				StandardCharsets.UTF_8)) {
+			for (Path file : files.sorted().toList()) {
+				AuditLogReader.read(file, null, out);
+			}
+		}
+		String content = output.toString(StandardCharsets.UTF_8);
+		return content.isEmpty() ? List.of() : List.of(content.split("\\R"));
+	}
+
+	// Linha do leitor: instante, etapa, resultado, tipo, id e duração
+	private static String messageId(String line) {
+		return line.trim().split("\\s+")[4];
+	}
+}
@@ -0,0 +1,48 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryProcessedMessageRegistryTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void bloomHitIsConfirmedByRepository() {
+		InMemoryProcessedMessageRegistry registry = registry(IdempotencyMode.BLOOM);
+		registry.markProcessed("expense-1");
+
+		assertTrue(registry.isProcessed("expense-1", id -> true));
+		// Acerto do filtro sem registro salvo: falso positivo, a mensagem deve ser processada
+		assertFalse(registry.isProcessed("expense-1", id -> false));
+		assertEquals(1.0, meterRegistry.get("idempotency.lookups").tag("result", "false_positive")
+				.counter().count(), 0);
+	}
+
+	@Test
+	void bloomMissSkipsRepositoryLookup() {
+		InMemoryProcessedMessageRegistry registry = registry(IdempotencyMode.BLOOM);
+
+		assertFalse(registry.isProcessed("expense-1", id -> {
+			throw new AssertionError("Repository must not be queried on a miss");
+		}));
+	}
+
+	@Test
+	void exactHitDoesNotQueryRepository() {
+		InMemoryProcessedMessageRegistry registry = registry(IdempotencyMode.EXACT);
+		registry.markProcessed("income-1");
+
+		assertTrue(registry.isProcessed("income-1", id -> {
+			throw new AssertionError("Exact mode must not query the repository");
+		}));
+	}
+
+	private InMemoryProcessedMessageRegistry registry(IdempotencyMode mode) {
+		return new InMemoryProcessedMessageRegistry(meterRegistry, mode, 3_600_000, 1_000, 10_000, 0.001);
+	}
+}
@@ -0,0 +1,59 @@
+package br.com.suit.DLQ.driven.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RotatingBloomSeenSetTest {
+
+	private static final long ONE_HOUR = TimeUnit.HOURS.toNanos(1);
+
+	@Test
+	void containsEveryAddedId() {
+		RotatingBloomSeenSet seenSet = new RotatingBloomSeenSet(10_000, 0.001, ONE_HOUR);
+		String[] ids = new String[10_000];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = UUID.randomUUID().toString();
+			seenSet.add(ids[i]);
+		}
+
+		for (String id : ids) {
+			assertTrue(seenSet.contains(id), "Bloom filter must not have false negatives");
+		}
+	}
+
+	@Test
+	void keepsFalsePositiveRateNearConfiguredRate() {
+		RotatingBloomSeenSet seenSet = new RotatingBloomSeenSet(10_000, 0.01, ONE_HOUR);
+		for (int i = 0; i < 10_000; i++) {
+			seenSet.add(UUID.randomUUID().toString());
+		}
+
+		int falsePositives = 0;
+		int lookups = 100_000;
+		for (int i = 0; i < lookups; i++) {
+			if (seenSet.contains(UUID.randomUUID().toString())) {
+				falsePositives++;
+			}
+		}
+		// Margem sobre a taxa configurada de 1% para absorver a variação da amostra
+		assertTrue(falsePositives < lookups * 0.02, "False positives: " + falsePositives);
+	}
+
+	@Test
+	void forgetsIdsAfterTwoWindows() throws InterruptedException {
+		// ttl de 200 ms: dois filtros de 100 ms cada
+		RotatingBloomSeenSet seenSet = new RotatingBloomSeenSet(1_000, 0.001, TimeUnit.MILLISECONDS.toNanos(200));
+		seenSet.add("expense-1");
+
+		Thread.sleep(150);
+		assertTrue(seenSet.contains("expense-1"), "Id must survive the first rotation");
+
+		Thread.sleep(150);
+		assertFalse(seenSet.contains("expense-1"), "Id must expire after the second rotation");
+	}
+}
@@ -0,0 +1,91 @@
+package br.com.suit.DLQ.driven.messaging.converter;
+
+import br.com.suit.DLQ.application.commands.RecordExpense;
+import br.com.suit.DLQ.driven.messaging.flow.MessageFlow;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class FinancialMessageConverterTest {
+
+	private final FinancialMessageConverter converter =
+			new FinancialMessageConverter(JsonMapper.builder().findAndAddModules().build());
+
+	@Test
+	void roundTripsCommandOfNewlyRegisteredFlow() {
+		// Terceiro fluxo, além de despesas e receitas: o conversor não conhece o tipo de antemão
+		MessageFlow<RecordTransfer> flow = new MessageFlow<>("transfer", "TRANSFER", RecordTransfer.class,
+				"account", RecordTransfer::getId, RecordTransfer::getAccount, command -> { },
+				commands -> List.of());
+		RecordTransfer transfer = new RecordTransfer("transfer-1", new BigDecimal("42.50"), "Conta B");
+
+		Message message = converter.toMessage(transfer, new MessageProperties());
+		RecordTransfer read = converter.read(message.getBody(), flow.getCommandType());
+
+		assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+		assertEquals(transfer.getId(), read.getId());
+		assertEquals(transfer.getAmount(), read.getAmount());
+		assertEquals(transfer.getAccount(), read.getAccount());
+	}
+
+	@Test
+	void fromMessageDeserializesInferredCommandType() {
+		RecordExpense expense = new RecordExpense("expense-1", "Compra", new BigDecimal("10.00"), "Material",
+				LocalDateTime.of(2024, 1, 15, 10, 30));
+		Message message = converter.toMessage(expense, new MessageProperties());
+		message.getMessageProperties().setInferredArgumentType(RecordExpense.class);
+
+		RecordExpense read = assertInstanceOf(RecordExpense.class, converter.fromMessage(message));
+
+		assertEquals(expense.getId(), read.getId());
+		assertEquals(expense.getDateTime(), read.getDateTime());
+	}
+
+	@Test
+	void fromMessageKeepsRawBodyWithoutCommandType() {
+		byte[] body = "{\"id\":\"expense-1\"}".getBytes(StandardCharsets.UTF_8);
+		Message message = converter.toMessage(body, new MessageProperties());
+
+		assertArrayEquals(body, (byte[]) converter.fromMessage(message));
+		message.getMessageProperties().setInferredArgumentType(String.class);
+		assertEquals("{\"id\":\"expense-1\"}", converter.fromMessage(message));
+	}
+
+	static class RecordTransfer {
+		private final String id;
+		private final BigDecimal amount;
+		private final String account;
+
+		@JsonCreator
+		RecordTransfer(@JsonProperty("id") String id, @JsonProperty("amount") BigDecimal amount,
+				@JsonProperty("account") String account) {
+			this.id = id;
+			this.amount = amount;
+			this.account = account;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public String getAccount() {
+			return account;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package br.com.suit.DLQ.driven.messaging.transport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedRingBufferTest {
+
+	@Test
+	void roundsCapacityUpToPowerOfTwo() {
+		assertEquals(2, new BoundedRingBuffer<Integer>(2).capacity());
+		assertEquals(8, new BoundedRingBuffer<Integer>(5).capacity());
+		assertEquals(1024, new BoundedRingBuffer<Integer>(1024).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new BoundedRingBuffer<Integer>(1));
+	}
+
+	@Test
+	void pollReturnsNullWhenEmpty() {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+		assertNull(buffer.poll());
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	void rejectsOfferWhenFull() {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(buffer.offer(i));
+		}
+
+		assertFalse(buffer.offer(4));
+		assertEquals(4, buffer.size());
+		assertEquals(0, buffer.poll());
+		assertTrue(buffer.offer(4), "A polled slot must be reusable");
+	}
+
+	@Test
+	void keepsFifoOrderAcrossWraparound() {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+		int next = 0;
+		int expected = 0;
+		// Dezenas de voltas completas, com a fila oscilando entre parcialmente cheia e vazia
+		for (int lap = 0; lap < 100; lap++) {
+			for (int i = 0; i < 3; i++) {
+				assertTrue(buffer.offer(next++));
+			}
+			for (int i = 0; i < 2; i++) {
+				assertEquals(expected++, buffer.poll());
+			}
+			while (buffer.size() > 0) {
+				assertEquals(expected++, buffer.poll());
+			}
+		}
+
+		assertEquals(next, expected);
+		assertNull(buffer.poll());
+	}
+
+	@Test
+	void drainsUpToMaxElements() {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(8);
+		for (int i = 0; i < 5; i++) {
+			buffer.offer(i);
+		}
+		List<Integer> drained = new ArrayList<>();
+
+		assertEquals(3, buffer.drainTo(drained, 3));
+		assertEquals(List.of(0, 1, 2), drained);
+		assertEquals(2, buffer.drainTo(drained, 10));
+		assertEquals(List.of(0, 1, 2, 3, 4), drained);
+	}
+
+	@Test
+	@Timeout(30)
+	void deliversEveryElementExactlyOnceWithConcurrentProducersAndConsumers() throws InterruptedException {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+		int producers = 4;
+		int consumers = 4;
+		int elementsPerProducer = 50_000;
+		int total = producers * elementsPerProducer;
+		AtomicIntegerArray deliveries = new AtomicIntegerArray(total);
+		AtomicLong consumed = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+
+		for (int p = 0; p < producers; p++) {
+			int firstElement = p * elementsPerProducer;
+			threads.add(new Thread(() -> {
+				await(start);
+				for (int i = firstElement; i < firstElement + elementsPerProducer; i++) {
+					while (!buffer.offer(i)) {
+						Thread.yield();
+					}
+				}
+			}));
+		}
+		for (int c = 0; c < consumers; c++) {
+			threads.add(new Thread(() -> {
+				await(start);
+				while (consumed.get() < total) {
+					Integer element = buffer.poll();
+					if (element == null) {
+						Thread.yield();
+						continue;
+					}
+					deliveries.incrementAndGet(element);
+					consumed.incrementAndGet();
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		for (int i = 0; i < total; i++) {
+			assertEquals(1, deliveries.get(i), "Deliveries of element " + i);
+		}
+		assertEquals(0, buffer.size());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package br.com.suit.DLQ.driven.repository;
+
+import br.com.suit.DLQ.application.domain.Expense;
+import br.com.suit.DLQ.application.domain.ExpenseQuery;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryExpenseRepositoryTest {
+
+	private static final LocalDateTime DATE_TIME = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+	@Test
+	void concurrentUpdatesOfSameIdKeepIndexOnLatestVersion() throws InterruptedException {
+		List<Expense[]> notifications = Collections.synchronizedList(new ArrayList<>());
+		InMemoryExpenseRepository repository = new InMemoryExpenseRepository(
+				List.of((previous, current) -> notifications.add(new Expense[]{previous, current})));
+		int writers = 4;
+		int savesPerWriter = 2_000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int w = 0; w < writers; w++) {
+			String category = "category-" + w;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				// Cada versão muda grupo e instante: as duas chaves de ordenação do índice
+				for (int i = 0; i < savesPerWriter; i++) {
+					repository.save(new Expense("expense-1", "Compra", new BigDecimal("10.00"), category,
+							DATE_TIME.plusSeconds(i)));
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Expense latest = repository.findById("expense-1");
+		assertEquals(List.of(latest), repository.find(query(null)).getItems());
+		assertEquals(List.of(latest), repository.find(query(latest.getCategory())).getItems());
+		for (int w = 0; w < writers; w++) {
+			String category = "category-" + w;
+			if (!category.equals(latest.getCategory())) {
+				assertTrue(repository.find(query(category)).getItems().isEmpty(), category);
+			}
+		}
+
+		// Listeners recebem as versões na ordem em que o mapa as aplicou
+		assertEquals(writers * savesPerWriter, notifications.size());
+		assertNull(notifications.get(0)[0]);
+		for (int i = 1; i < notifications.size(); i++) {
+			assertSame(notifications.get(i - 1)[1], notifications.get(i)[0]);
+		}
+		assertSame(latest, notifications.get(notifications.size() - 1)[1]);
+	}
+
+	private static ExpenseQuery query(String category) {
+		return new ExpenseQuery(category, null, null, null, null, 10);
+	}
+}
@@ -0,0 +1,76 @@
+package br.com.suit.DLQ.driven.repository.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CompactRecordStoreTest {
+
+	private static final CompactRecordStore.RowMapper<String> DESCRIPTION_MAPPER =
+			(id, description, amount, group, dateTime, status) -> description;
+	private static final LocalDateTime DATE_TIME = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+	@Test
+	void notifiesPreviousAndStoredVersions() {
+		CompactRecordStore store = new CompactRecordStore();
+		List<String[]> notifications = new ArrayList<>();
+
+		store.put("expense-1", "v1", new BigDecimal("10.00"), "Material", DATE_TIME, 0, DESCRIPTION_MAPPER,
+				(previous, stored) -> notifications.add(new String[]{previous, stored}));
+		store.put("expense-1", "v2", new BigDecimal("20.00"), "Material", DATE_TIME, 1, DESCRIPTION_MAPPER,
+				(previous, stored) -> notifications.add(new String[]{previous, stored}));
+
+		assertNull(notifications.get(0)[0]);
+		assertEquals("v1", notifications.get(0)[1]);
+		assertEquals("v1", notifications.get(1)[0]);
+		assertEquals("v2", notifications.get(1)[1]);
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	void concurrentSavesOfSameIdNotifyInStoreOrder() throws InterruptedException {
+		CompactRecordStore store = new CompactRecordStore();
+		List<String[]> notifications = Collections.synchronizedList(new ArrayList<>());
+		int writers = 4;
+		int savesPerWriter = 2_000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int w = 0; w < writers; w++) {
+			String prefix = "writer-" + w + "-";
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < savesPerWriter; i++) {
+					store.put("expense-1", prefix + i, new BigDecimal("10.00"), "Material", DATE_TIME, 0,
+							DESCRIPTION_MAPPER, (previous, stored) -> notifications.add(new String[]{previous, stored}));
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Cada notificação parte exatamente da versão entregue pela anterior: nenhuma é repetida ou perdida
+		assertEquals(writers * savesPerWriter, notifications.size());
+		assertNull(notifications.get(0)[0]);
+		for (int i = 1; i < notifications.size(); i++) {
+			assertEquals(notifications.get(i - 1)[1], notifications.get(i)[0], "Notification " + i);
+		}
+		assertEquals(notifications.get(notifications.size() - 1)[1], store.get("expense-1", DESCRIPTION_MAPPER));
+	}
+}
@@ -0,0 +1,152 @@
+package br.com.suit.DLQ.driven.repository.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedJournalTest {
+
+	private static final int SEGMENT_SIZE = 4096;
+	private static final long FLUSH_INTERVAL = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void replaysRecordsAfterRestart() {
+		MappedJournal journal = open();
+		append(journal, "expense-1", "expense-2", "expense-3");
+		journal.close();
+
+		assertEquals(List.of("expense-1", "expense-2", "expense-3"), replay(new MappedJournal(directory, SEGMENT_SIZE,
+				FLUSH_INTERVAL)));
+	}
+
+	@Test
+	void reusesTailSegmentOnRestart() throws IOException {
+		MappedJournal first = open();
+		append(first, "expense-1");
+		first.close();
+
+		MappedJournal second = new MappedJournal(directory, SEGMENT_SIZE, FLUSH_INTERVAL);
+		replay(second);
+		second.open();
+		append(second, "expense-2");
+		second.close();
+
+		assertEquals(1, segmentCount(), "A clean restart must not preallocate a new segment");
+		assertEquals(List.of("expense-1", "expense-2"), replay(new MappedJournal(directory, SEGMENT_SIZE,
+				FLUSH_INTERVAL)));
+	}
+
+	@Test
+	void rollsToNewSegmentWhenFull() throws IOException {
+		MappedJournal journal = open();
+		String payload = "x".repeat(1000);
+		for (int i = 0; i < 10; i++) {
+			append(journal, payload + i);
+		}
+		journal.close();
+
+		assertEquals(3, segmentCount());
+		assertEquals(10, replay(new MappedJournal(directory, SEGMENT_SIZE, FLUSH_INTERVAL)).size());
+	}
+
+	@Test
+	void compactionKeepsOnlyLiveRecords() throws IOException {
+		MappedJournal journal = open();
+		String payload = "x".repeat(1000);
+		for (int i = 0; i < 10; i++) {
+			append(journal, payload + i);
+		}
+		journal.close();
+
+		MappedJournal compacted = new MappedJournal(directory, SEGMENT_SIZE, FLUSH_INTERVAL);
+		replay(compacted);
+		compacted.compact(List.of(bytes("expense-8"), bytes("expense-9")));
+		compacted.open();
+		append(compacted, "expense-10");
+		compacted.close();
+
+		assertEquals(1, segmentCount());
+		assertEquals(List.of("expense-8", "expense-9", "expense-10"), replay(new MappedJournal(directory,
+				SEGMENT_SIZE, FLUSH_INTERVAL)));
+	}
+
+	@Test
+	void discardsTornRecordAtTail() throws IOException {
+		MappedJournal journal = open();
+		append(journal, "expense-1", "expense-2");
+		journal.close();
+
+		// Simula uma escrita interrompida: o payload do segundo registro é corrompido
+		Path segment = segments().get(0);
+		byte[] content = Files.readAllBytes(segment);
+		int secondPayload = 8 + "expense-1".length() + 8;
+		content[secondPayload] ^= 0x7F;
+		Files.write(segment, content);
+
+		MappedJournal recovered = new MappedJournal(directory, SEGMENT_SIZE, FLUSH_INTERVAL);
+		assertEquals(List.of("expense-1"), replay(recovered));
+		recovered.open();
+		append(recovered, "expense-3");
+		recovered.close();
+
+		assertEquals(2, segmentCount(), "A corrupted tail must not be overwritten");
+		assertEquals(List.of("expense-1", "expense-3"), replay(new MappedJournal(directory, SEGMENT_SIZE,
+				FLUSH_INTERVAL)));
+	}
+
+	@Test
+	void closeWithoutOpenIsNoOp() {
+		MappedJournal journal = new MappedJournal(directory, SEGMENT_SIZE, FLUSH_INTERVAL);
+
+		assertDoesNotThrow(journal::close);
+	}
+
+	private MappedJournal open() {
+		MappedJournal journal = new MappedJournal(directory, SEGMENT_SIZE, FLUSH_INTERVAL);
+		journal.open();
+		return journal;
+	}
+
+	private static void append(MappedJournal journal, String... payloads) {
+		long sequence = 0;
+		for (String payload : payloads) {
+			sequence = journal.append(bytes(payload));
+		}
+		journal.awaitDurable(sequence);
+	}
+
+	private static List<String> replay(MappedJournal journal) {
+		List<String> payloads = new ArrayList<>();
+		journal.replay(buffer -> payloads.add(StandardCharsets.UTF_8.decode(buffer).toString()));
+		return payloads;
+	}
+
+	private static byte[] bytes(String payload) {
+		return payload.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private int segmentCount() throws IOException {
+		return segments().size();
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.sorted().toList();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package br.com.suit.DLQ.driving.http.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void rejectsAboveLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 2.0);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limiter.tryAcquire());
+		}
+
+		assertFalse(limiter.tryAcquire());
+		limiter.release(FAST, true);
+		assertTrue(limiter.tryAcquire());
+		assertEquals(4, limiter.getInFlight());
+	}
+
+	@Test
+	void increasesWhileLimitIsInUse() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+		for (int round = 0; round < 20; round++) {
+			saturateAndRelease(limiter, FAST, true);
+		}
+
+		assertTrue(limiter.getLimit() > 10, "Limit: " + limiter.getLimit());
+		assertTrue(limiter.getLimit() <= 100);
+	}
+
+	@Test
+	void doesNotIncreaseWhileIdle() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(limiter.tryAcquire());
+			limiter.release(FAST, true);
+		}
+
+		assertEquals(10, limiter.getLimit());
+	}
+
+	@Test
+	void appliesOneDecreasePerWindowOfFailures() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 2.0);
+		saturateAndRelease(limiter, FAST, false);
+
+		// Vinte falhas da mesma janela: uma única redução multiplicativa
+		assertEquals(18, limiter.getLimit());
+
+		assertTrue(limiter.tryAcquire());
+		limiter.release(FAST, false);
+		assertEquals(16, limiter.getLimit(), "A failure after the window must decrease again");
+	}
+
+	@Test
+	void decreasesWhenLatencyDegrades() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 2.0);
+		assertTrue(limiter.tryAcquire());
+		limiter.release(FAST, true);
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(limiter.tryAcquire());
+			limiter.release(SLOW, true);
+		}
+
+		assertEquals(18, limiter.getLimit());
+	}
+
+	@Test
+	void neverDropsBelowMinLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 8, 100, 2.0);
+		for (int round = 0; round < 50; round++) {
+			saturateAndRelease(limiter, FAST, false);
+		}
+
+		assertEquals(8, limiter.getLimit());
+	}
+
+	private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos, boolean success) {
+		int acquired = 0;
+		while (limiter.tryAcquire()) {
+			acquired++;
+		}
+		for (int i = 0; i < acquired; i++) {
+			limiter.release(rttNanos, success);
+		}
+	}
+}